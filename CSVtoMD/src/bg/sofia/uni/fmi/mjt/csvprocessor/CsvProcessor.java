@@ -7,9 +7,13 @@ import bg.sofia.uni.fmi.mjt.csvprocessor.table.printer.ColumnAlignment;
 import bg.sofia.uni.fmi.mjt.csvprocessor.table.printer.MarkdownTablePrinter;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 
 public class CsvProcessor implements CsvProcessorAPI {
@@ -28,21 +32,7 @@ public class CsvProcessor implements CsvProcessorAPI {
         try (BufferedReader bufferedReader = new BufferedReader(reader)) {
             String row = null;
             while ((row = bufferedReader.readLine()) != null) {
-                if (!row.contains(delimiter)) {
-                    throw new CsvDataNotCorrectException("Csv doesn't contain the right delimiter.");
-                }
-
-                String[] data = row.split(delimiter);
-
-                for (int i = 0; i < data.length; i++) {
-                    if (data[i].isBlank()) {
-                        throw new CsvDataNotCorrectException("Csv cannot contain empty values.");
-                    }
-
-                    data[i] = data[i].strip();
-                }
-
-                table.addData(data);
+                table.addData(parseRow(row, delimiter));
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -63,4 +53,133 @@ public class CsvProcessor implements CsvProcessorAPI {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public void convert(Path file, String delimiter, Writer writer, ColumnAlignment... alignments)
+        throws CsvDataNotCorrectException {
+        if (file == null || delimiter == null || writer == null || alignments == null) {
+            throw new IllegalArgumentException("Conversion arguments are null.");
+        }
+
+        int[] widths;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            widths = measureColumns(reader, delimiter, alignments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when reading the file.", e);
+        }
+
+        if (widths.length == 0) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            writeRows(reader, parseRow(reader.readLine(), delimiter), delimiter, widths, writer, alignments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when converting the file.", e);
+        }
+    }
+
+    @Override
+    public void convert(Reader reader, String delimiter, int columnWidth, Writer writer,
+                        ColumnAlignment... alignments) throws CsvDataNotCorrectException {
+        if (reader == null || delimiter == null || writer == null || alignments == null) {
+            throw new IllegalArgumentException("Conversion arguments are null.");
+        }
+
+        if (columnWidth < 1) {
+            throw new IllegalArgumentException("Column width is less than 1.");
+        }
+
+        try (BufferedReader bufferedReader = new BufferedReader(reader)) {
+            String header = bufferedReader.readLine();
+            if (header == null) {
+                return;
+            }
+
+            String[] columnNames = parseRow(header, delimiter);
+            int[] widths = new int[columnNames.length];
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(columnWidth, columnNames[i].length());
+            }
+
+            writeRows(bufferedReader, columnNames, delimiter, fitAlignments(widths, alignments), writer, alignments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when converting the data.", e);
+        }
+    }
+
+    private int[] measureColumns(BufferedReader reader, String delimiter, ColumnAlignment[] alignments)
+        throws IOException, CsvDataNotCorrectException {
+        String header = reader.readLine();
+        if (header == null) {
+            return new int[0];
+        }
+
+        String[] columnNames = parseRow(header, delimiter);
+        int[] widths = new int[columnNames.length];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = columnNames[i].length();
+        }
+
+        String row = null;
+        while ((row = reader.readLine()) != null) {
+            String[] data = parseColumns(row, delimiter, widths.length);
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], data[i].length());
+            }
+        }
+
+        return fitAlignments(widths, alignments);
+    }
+
+    private void writeRows(BufferedReader reader, String[] columnNames, String delimiter, int[] widths, Writer writer,
+                           ColumnAlignment[] alignments) throws IOException, CsvDataNotCorrectException {
+        MarkdownTablePrinter printer = new MarkdownTablePrinter();
+        BufferedWriter bufferedWriter = new BufferedWriter(writer);
+
+        printer.writeRow(bufferedWriter, columnNames, widths);
+        printer.writeAlignments(bufferedWriter, widths, alignments);
+
+        String row = null;
+        while ((row = reader.readLine()) != null) {
+            printer.writeRow(bufferedWriter, parseColumns(row, delimiter, widths.length), widths);
+        }
+
+        bufferedWriter.flush();
+    }
+
+    private int[] fitAlignments(int[] widths, ColumnAlignment[] alignments) {
+        for (int i = 0; i < widths.length && i < alignments.length; i++) {
+            widths[i] = Math.max(widths[i], MarkdownTablePrinter.minimumWidth(alignments[i]));
+        }
+
+        return widths;
+    }
+
+    private String[] parseColumns(String row, String delimiter, int columnsCount) throws CsvDataNotCorrectException {
+        String[] data = parseRow(row, delimiter);
+        if (data.length != columnsCount) {
+            throw new CsvDataNotCorrectException("The row has a different number of values than the table columns.");
+        }
+
+        return data;
+    }
+
+    private String[] parseRow(String row, String delimiter) throws CsvDataNotCorrectException {
+        if (!row.contains(delimiter)) {
+            throw new CsvDataNotCorrectException("Csv doesn't contain the right delimiter.");
+        }
+
+        String[] data = row.split(delimiter);
+
+        for (int i = 0; i < data.length; i++) {
+            if (data[i].isBlank()) {
+                throw new CsvDataNotCorrectException("Csv cannot contain empty values.");
+            }
+
+            data[i] = data[i].strip();
+        }
+
+        return data;
+    }
 }
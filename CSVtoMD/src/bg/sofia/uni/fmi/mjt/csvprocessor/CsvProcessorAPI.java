@@ -5,6 +5,7 @@ import bg.sofia.uni.fmi.mjt.csvprocessor.table.printer.ColumnAlignment;
 
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.file.Path;
 
 public interface CsvProcessorAPI {
 
@@ -22,4 +23,31 @@ public interface CsvProcessorAPI {
      */
     void writeTable(Writer writer, ColumnAlignment... alignments);
 
+    /**
+     * Converts the CSV file to a Markdown table and writes it to the provided Writer row by row, without loading the
+     * file in memory. The file is read twice: the first pass computes the width of every column and the second one
+     * writes the rows.
+     * @param file the CSV file to be converted
+     * @param delimiter the delimeter used to split the CSV (such as ,.- and so on)
+     * @param writer - the Writer to which the table will be written
+     * @param alignments - the applied alignments for columns
+     * @throws CsvDataNotCorrectException if the CSV data is in wrong format
+     */
+    void convert(Path file, String delimiter, Writer writer, ColumnAlignment... alignments)
+        throws CsvDataNotCorrectException;
+
+    /**
+     * Converts CSV data from Reader to a Markdown table in a single pass, writing every row as soon as it is read, so
+     * the input can be of any size. Every column is padded to the given width, or to its header if the header is
+     * longer. Longer values are written in full and only break the visual alignment of their row.
+     * @param reader the Reader from which the CSV will be read
+     * @param delimiter the delimeter used to split the CSV (such as ,.- and so on)
+     * @param columnWidth the width to which every column is padded
+     * @param writer - the Writer to which the table will be written
+     * @param alignments - the applied alignments for columns
+     * @throws CsvDataNotCorrectException if the CSV data is in wrong format
+     */
+    void convert(Reader reader, String delimiter, int columnWidth, Writer writer, ColumnAlignment... alignments)
+        throws CsvDataNotCorrectException;
+
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package bg.sofia.uni.fmi.mjt.csvprocessor.table.printer;
 
 import bg.sofia.uni.fmi.mjt.csvprocessor.table.Table;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -73,6 +76,32 @@ public class MarkdownTablePrinter implements TablePrinter {
         return printed.toString();
     }
 
+    public static int minimumWidth(ColumnAlignment alignment) {
+        return alignment.getAlignmentCharactersCount() + 1;
+    }
+
+    public void writeRow(Writer writer, String[] row, int[] widths) throws IOException {
+        writer.write("|");
+
+        for (int i = 0; i < row.length; i++) {
+            writer.write(" ");
+            writer.write(row[i]);
+            for (int padding = row[i].length(); padding < widths[i]; padding++) {
+                writer.write(' ');
+            }
+            writer.write(" |");
+        }
+
+        writer.write(System.lineSeparator());
+    }
+
+    public void writeAlignments(Writer writer, int[] widths, ColumnAlignment... alignments) throws IOException {
+        List<Integer> maxLengths = Arrays.stream(widths).boxed().toList();
+
+        writer.write(printAlignments(alignments, maxLengths));
+        writer.write(System.lineSeparator());
+    }
+
     @Override
     public Collection<String> printTable(Table table, ColumnAlignment... alignments) {
         ArrayList<String> columnNames = new ArrayList<>(table.getColumnNames());
@@ -0,0 +1,107 @@
+package bg.sofia.uni.fmi.mjt.csvprocessor;
+
+import bg.sofia.uni.fmi.mjt.csvprocessor.exceptions.CsvDataNotCorrectException;
+import bg.sofia.uni.fmi.mjt.csvprocessor.table.printer.ColumnAlignment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvProcessorTest {
+    private static final String DELIMITER = ",";
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private static final String HEADER = "a,bb";
+    private static final String CSV = HEADER + NEW_LINE + "xxx,y" + NEW_LINE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testConvertFileMeasuresWidthsAndAlignments() throws IOException, CsvDataNotCorrectException {
+        StringWriter writer = new StringWriter();
+
+        new CsvProcessor().convert(file(CSV), DELIMITER, writer, ColumnAlignment.LEFT, ColumnAlignment.CENTER);
+
+        assertEquals("| a   | bb  |" + NEW_LINE +
+                        "| :-- | :-: |" + NEW_LINE +
+                        "| xxx | y   |" + NEW_LINE,
+                writer.toString(),
+                "When tested convert(...) with a file, the columns should be as wide as their widest value " +
+                        "and their alignment markers.");
+    }
+
+    @Test
+    public void testConvertReaderPadsToColumnWidth() throws CsvDataNotCorrectException {
+        StringWriter writer = new StringWriter();
+
+        new CsvProcessor().convert(new StringReader("id,name" + NEW_LINE + "1,Alexander"), DELIMITER, 3, writer);
+
+        assertEquals("| id  | name |" + NEW_LINE +
+                        "| --- | ---- |" + NEW_LINE +
+                        "| 1   | Alexander |" + NEW_LINE,
+                writer.toString(),
+                "When tested convert(...) with a column width, values should be padded to it " +
+                        "and wider values should be written as they are.");
+    }
+
+    @Test
+    public void testConvertReaderWithInvalidColumnWidth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CsvProcessor().convert(new StringReader(CSV), DELIMITER, 0, new StringWriter()),
+                "When tested convert(...) with a column width less than 1, " +
+                        "the method didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testConvertWithWrongNumberOfValues() throws IOException {
+        String csv = HEADER + NEW_LINE + "1,2,3" + NEW_LINE;
+        Path file = file(csv);
+
+        assertThrows(CsvDataNotCorrectException.class,
+                () -> new CsvProcessor().convert(file, DELIMITER, new StringWriter()),
+                "When tested convert(...) with a file containing a row with the wrong number of values, " +
+                        "the method didn't throw CsvDataNotCorrectException.");
+        assertThrows(CsvDataNotCorrectException.class,
+                () -> new CsvProcessor().convert(new StringReader(csv), DELIMITER, 1, new StringWriter()),
+                "When tested convert(...) with a reader containing a row with the wrong number of values, " +
+                        "the method didn't throw CsvDataNotCorrectException.");
+    }
+
+    @Test
+    public void testConvertWithHeaderOnly() throws IOException, CsvDataNotCorrectException {
+        StringWriter fileWriter = new StringWriter();
+        new CsvProcessor().convert(file(HEADER), DELIMITER, fileWriter, ColumnAlignment.NOALIGNMENT);
+        StringWriter readerWriter = new StringWriter();
+        new CsvProcessor().convert(new StringReader(HEADER), DELIMITER, 3, readerWriter);
+
+        assertEquals("| a | bb |" + NEW_LINE + "| - | -- |" + NEW_LINE, fileWriter.toString(),
+                "When tested convert(...) with a file with a header only, the table should have no data rows.");
+        assertEquals("| a   | bb  |" + NEW_LINE + "| --- | --- |" + NEW_LINE, readerWriter.toString(),
+                "When tested convert(...) with a reader with a header only, the table should have no data rows.");
+    }
+
+    @Test
+    public void testConvertWithEmptyInput() throws IOException, CsvDataNotCorrectException {
+        StringWriter fileWriter = new StringWriter();
+        new CsvProcessor().convert(file(""), DELIMITER, fileWriter);
+        StringWriter readerWriter = new StringWriter();
+        new CsvProcessor().convert(new StringReader(""), DELIMITER, 3, readerWriter);
+
+        assertEquals("", fileWriter.toString(),
+                "When tested convert(...) with an empty file, nothing should be written.");
+        assertEquals("", readerWriter.toString(),
+                "When tested convert(...) with an empty reader, nothing should be written.");
+    }
+
+    private Path file(String content) throws IOException {
+        return Files.writeString(directory.resolve("table.csv"), content);
+    }
+}
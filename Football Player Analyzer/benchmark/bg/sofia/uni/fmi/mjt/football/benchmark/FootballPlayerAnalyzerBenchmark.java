@@ -0,0 +1,151 @@
+package bg.sofia.uni.fmi.mjt.football.benchmark;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.FootballPlayerAnalyzer;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import bg.sofia.uni.fmi.mjt.football.query.PlayerPredicate;
+import bg.sofia.uni.fmi.mjt.football.query.PlayerQuery;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class FootballPlayerAnalyzerBenchmark {
+    private static final String DEFAULT_PLAYERS_FILE = "fifa_players_clean.csv";
+    private static final String DEFAULT_SIZES = "10000,100000,1000000";
+    private static final long SEED = 2023;
+    private static final int SAMPLES_COUNT = 64;
+    private static final int CALLS_PER_ITERATION = 64;
+    private static final int TOP_K = 10;
+    private static final long BUDGET = 5_000_000;
+    private static final String KEYWORD = "Silva";
+
+    private static final int QUERY_WARMUP_ITERATIONS = 20;
+    private static final int QUERY_MEASUREMENT_ITERATIONS = 100;
+    private static final int LOADING_WARMUP_ITERATIONS = 2;
+    private static final int LOADING_MEASUREMENT_ITERATIONS = 5;
+
+    private static final PlayerQuery QUERY = PlayerQuery.where(PlayerPredicate.position(Position.GK, Position.CB)
+                    .and(PlayerPredicate.foot(Foot.LEFT))
+                    .and(PlayerPredicate.ageBetween(18, 23))
+                    .and(PlayerPredicate.valueBetween(0, BUDGET)))
+            .orderBy(Comparator.comparingInt(Player::potential).reversed())
+            .limit(TOP_K);
+
+    public static void main(String[] args) throws IOException {
+        Path playersFile = Path.of(args.length > 0 ? args[0] : DEFAULT_PLAYERS_FILE);
+        int[] sizes = Arrays.stream((args.length > 1 ? args[1] : DEFAULT_SIZES).split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        List<Player> templates = FootballPlayerAnalyzer.fromFile(playersFile).getAllPlayers();
+
+        for (int size : sizes) {
+            SyntheticPlayers synthetic = new SyntheticPlayers(templates, SEED);
+            Path syntheticFile = synthetic.write(size);
+
+            System.out.printf("Dataset: %d players (%d bytes)%n", size, Files.size(syntheticFile));
+            BenchmarkRunner.printHeader();
+
+            BenchmarkRunner loadingRunner = new BenchmarkRunner(LOADING_WARMUP_ITERATIONS,
+                    LOADING_MEASUREMENT_ITERATIONS);
+            loadingRunner.run("construction: Reader constructor", size, () -> loadFromReader(syntheticFile));
+            loadingRunner.run("construction: fromFile", size, () -> FootballPlayerAnalyzer.fromFile(syntheticFile));
+
+            FootballPlayerAnalyzer analyzer = FootballPlayerAnalyzer.fromFile(syntheticFile);
+            Files.delete(syntheticFile);
+
+            Player[] samples = new Player[SAMPLES_COUNT];
+            List<Player> players = analyzer.getAllPlayers();
+            for (int i = 0; i < SAMPLES_COUNT; i++) {
+                samples[i] = players.get((int) ((long) i * players.size() / SAMPLES_COUNT));
+            }
+
+            BenchmarkRunner runner = new BenchmarkRunner(QUERY_WARMUP_ITERATIONS, QUERY_MEASUREMENT_ITERATIONS);
+            benchmarkQueries(runner, analyzer, samples);
+            benchmarkUpdates(runner, analyzer, samples, synthetic);
+        }
+    }
+
+    private static void benchmarkQueries(BenchmarkRunner runner, FootballPlayerAnalyzer analyzer, Player[] samples) {
+        runner.run("getAllPlayers", 1, () -> consume(analyzer.getAllPlayers()));
+        runner.run("getAllNationalities", 1, () -> consume(analyzer.getAllNationalities()));
+        runner.run("getHighestPaidPlayerByNationality", CALLS_PER_ITERATION,
+                () -> forEachSample(samples,
+                        player -> analyzer.getHighestPaidPlayerByNationality(player.nationality())));
+        runner.run("groupByPosition", 1, () -> consume(analyzer.groupByPosition()));
+        runner.run("getTopProspectPlayerForPositionInBudget", CALLS_PER_ITERATION,
+                () -> forEachSample(samples, player -> analyzer.getTopProspectPlayerForPositionInBudget(
+                        player.positions().getFirst(), player.valueEuro())));
+        runner.run("getSimilarPlayers", CALLS_PER_ITERATION,
+                () -> forEachSample(samples, player -> consume(analyzer.getSimilarPlayers(player))));
+        runner.run("getPlayersByFullNameKeyword", 1, () -> consume(analyzer.getPlayersByFullNameKeyword(KEYWORD)));
+        runner.run("query", 1, () -> consume(analyzer.query(QUERY)));
+        runner.run("getNearestPlayers", CALLS_PER_ITERATION,
+                () -> forEachSample(samples, player -> consume(analyzer.getNearestPlayers(player, TOP_K))));
+    }
+
+    private static void benchmarkUpdates(BenchmarkRunner runner, FootballPlayerAnalyzer analyzer, Player[] samples,
+                                         SyntheticPlayers synthetic) {
+        runner.run("upsertPlayer", 1, () -> {
+            analyzer.upsertPlayer(synthetic.next());
+            return analyzer;
+        });
+        runner.run("upsertPlayer + removePlayer", 1, () -> {
+            Player player = synthetic.next();
+            analyzer.upsertPlayer(player);
+            return analyzer.removePlayer(player);
+        });
+        runner.run("upsertPlayer + getSimilarPlayers", 1, () -> {
+            analyzer.upsertPlayer(synthetic.next());
+            return consume(analyzer.getSimilarPlayers(samples[0]));
+        });
+    }
+
+    private static FootballPlayerAnalyzer loadFromReader(Path file) {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return new FootballPlayerAnalyzer(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int forEachSample(Player[] samples, SampleCall call) {
+        int count = 0;
+        for (Player sample : samples) {
+            if (call.run(sample) != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static int consume(Collection<?> collection) {
+        int count = 0;
+        for (Object element : collection) {
+            if (element != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static int consume(Map<?, ? extends Collection<?>> map) {
+        return map.values().stream().mapToInt(FootballPlayerAnalyzerBenchmark::consume).sum();
+    }
+
+    @FunctionalInterface
+    private interface SampleCall {
+        Object run(Player player);
+    }
+}
@@ -0,0 +1,121 @@
+package bg.sofia.uni.fmi.mjt.football.benchmark;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class SyntheticPlayers {
+    private static final String HEADER = "name;full_name;birth_date;age;height_cm;weight_kgs;positions;" +
+            "nationality;overall_rating;potential;value_euro;wage_euro;preferred_foot";
+    private static final int MAX_RATING = 99;
+    private static final int RATING_JITTER = 2;
+    private static final int BIRTH_DATE_JITTER_DAYS = 180;
+    private static final double MONEY_JITTER = 0.2;
+    private static final long VALUE_STEP = 5_000;
+    private static final long WAGE_STEP = 500;
+
+    private final List<Player> templates;
+    private final Random random;
+
+    public SyntheticPlayers(List<Player> templates, long seed) {
+        if (templates == null || templates.isEmpty()) {
+            throw new IllegalArgumentException("There are no template players.");
+        }
+
+        this.templates = templates;
+        this.random = new Random(seed);
+    }
+
+    public Path write(int count) throws IOException {
+        Path file = Files.createTempFile("players", ".csv");
+        file.toFile().deleteOnExit();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(HEADER);
+            writer.newLine();
+
+            for (int i = 0; i < count; i++) {
+                writer.write(toLine(next()));
+                writer.newLine();
+            }
+        }
+
+        return file;
+    }
+
+    public Player next() {
+        Player template = randomTemplate();
+        Player surnameTemplate = randomTemplate();
+
+        int overallRating = Math.clamp(template.overallRating() + jitter(RATING_JITTER), 1, MAX_RATING);
+        int potential = Math.clamp(template.potential() + jitter(RATING_JITTER), overallRating, MAX_RATING);
+
+        return new Player(
+                template.name(),
+                firstName(template.fullName()) + " " + surname(surnameTemplate.fullName()),
+                template.birthDate().plusDays(jitter(BIRTH_DATE_JITTER_DAYS)),
+                template.age(),
+                template.heightCm(),
+                template.weightKg(),
+                template.positions(),
+                template.nationality(),
+                overallRating,
+                potential,
+                money(template.valueEuro(), VALUE_STEP),
+                money(template.wageEuro(), WAGE_STEP),
+                template.preferredFoot()
+        );
+    }
+
+    private Player randomTemplate() {
+        return templates.get(random.nextInt(templates.size()));
+    }
+
+    private int jitter(int bound) {
+        return random.nextInt(2 * bound + 1) - bound;
+    }
+
+    private long money(long amount, long step) {
+        double scaled = amount * Math.exp(random.nextGaussian() * MONEY_JITTER);
+
+        return Math.round(scaled / step) * step;
+    }
+
+    private static String firstName(String fullName) {
+        int space = fullName.indexOf(' ');
+
+        return space < 0 ? fullName : fullName.substring(0, space);
+    }
+
+    private static String surname(String fullName) {
+        int space = fullName.indexOf(' ');
+
+        return space < 0 ? fullName : fullName.substring(space + 1);
+    }
+
+    private static String toLine(Player player) {
+        return String.join(";",
+                player.name(),
+                player.fullName(),
+                player.birthDate().getMonthValue() + "/" + player.birthDate().getDayOfMonth() + "/" +
+                        player.birthDate().getYear(),
+                String.valueOf(player.age()),
+                String.valueOf(player.heightCm()),
+                String.valueOf(player.weightKg()),
+                player.positions().stream().map(Position::name).collect(Collectors.joining(",")),
+                player.nationality(),
+                String.valueOf(player.overallRating()),
+                String.valueOf(player.potential()),
+                String.valueOf(player.valueEuro()),
+                String.valueOf(player.wageEuro()),
+                player.preferredFoot().name().charAt(0) + player.preferredFoot().name().substring(1).toLowerCase()
+        );
+    }
+}
@@ -1,23 +1,34 @@
 package bg.sofia.uni.fmi.mjt.football;
 
+import bg.sofia.uni.fmi.mjt.football.query.PlayerQuery;
+import bg.sofia.uni.fmi.mjt.football.query.QueryPlanner;
+import bg.sofia.uni.fmi.mjt.football.store.LivePlayers;
+import bg.sofia.uni.fmi.mjt.football.store.MappedPlayerLoader;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerIndexes;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerSnapshot;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 public class FootballPlayerAnalyzer {
 
     private static final int OVERALL_RATING_DIFFER = 3;
 
-    private List<Player> players;
+    private final LivePlayers livePlayers;
+    private volatile PlayerSnapshot snapshot;
 
     /**
      * Loads the dataset from the given {@code reader}. The reader argument will not be null and a correct dataset of
@@ -26,13 +37,89 @@ public class FootballPlayerAnalyzer {
      * @param reader Reader from which the dataset can be read.
      */
     public FootballPlayerAnalyzer(Reader reader) {
+        this(read(reader));
+    }
+
+    private FootballPlayerAnalyzer(List<Player> players) {
+        this.livePlayers = new LivePlayers(players);
+        this.snapshot = livePlayers.snapshot(0);
+    }
+
+    /**
+     * Loads the dataset from the given {@code file} by memory mapping it and parsing its lines in parallel on the
+     * common pool.
+     *
+     * @param file Path of the dataset file.
+     * @throws IllegalArgumentException if {@code file} is null.
+     * @throws UncheckedIOException     if the file cannot be read.
+     */
+    public static FootballPlayerAnalyzer fromFile(Path file) {
+        return fromFile(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the dataset from the given {@code file} by memory mapping it and parsing its lines in parallel on the
+     * given {@code pool}.
+     *
+     * @param file Path of the dataset file.
+     * @param pool Pool on which the lines are parsed.
+     * @throws IllegalArgumentException if {@code file} or {@code pool} is null.
+     * @throws UncheckedIOException     if the file cannot be read.
+     */
+    public static FootballPlayerAnalyzer fromFile(Path file, ForkJoinPool pool) {
+        try {
+            return new FootballPlayerAnalyzer(new MappedPlayerLoader(pool).load(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when reading the file.", e);
+        }
+    }
+
+    private static List<Player> read(Reader reader) {
         try (BufferedReader bufferedReader = new BufferedReader(reader)) {
-            players = bufferedReader.lines().skip(1).map(Player::of).toList();
+            return bufferedReader.lines().skip(1).map(Player::of).toList();
         } catch (IOException e) {
             throw new UncheckedIOException("Something went wrong when reading the file.", e);
         }
     }
 
+    /**
+     * Adds the provided player to the dataset, replacing any player with the same full name and birth date. Queries
+     * running concurrently keep seeing the dataset as it was before the update.
+     *
+     * @param player the player to add or replace
+     * @throws IllegalArgumentException if the provided player is null
+     */
+    public synchronized void upsertPlayer(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        livePlayers.upsert(player);
+        publish();
+    }
+
+    /**
+     * Removes the player with the same full name and birth date as the provided player from the dataset. Queries
+     * running concurrently keep seeing the dataset as it was before the update.
+     *
+     * @param player the player to remove
+     * @return true if a player was removed, false if there is no such player in the dataset
+     * @throws IllegalArgumentException if the provided player is null
+     */
+    public synchronized boolean removePlayer(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        if (!livePlayers.remove(player)) {
+            return false;
+        }
+
+        publish();
+
+        return true;
+    }
+
     /**
      * Returns all players from the dataset in undefined order as an unmodifiable List. If the dataset is empty, returns
      * an empty List.
@@ -40,7 +127,7 @@ public class FootballPlayerAnalyzer {
      * @return the list of all players.
      */
     public List<Player> getAllPlayers() {
-        return Collections.unmodifiableList(players);
+        return snapshot.players();
     }
 
     /**
@@ -49,9 +136,7 @@ public class FootballPlayerAnalyzer {
      * @return the set of all nationalities
      */
     public Set<String> getAllNationalities() {
-        return players.stream()
-                .map(Player::nationality)
-                .collect(Collectors.toUnmodifiableSet());
+        return snapshot.nationalities();
     }
 
     /**
@@ -68,30 +153,20 @@ public class FootballPlayerAnalyzer {
             throw new IllegalArgumentException("Nationality is null.");
         }
 
-        return players.stream()
-                .filter(pl -> pl.nationality().equals(nationality))
-                .max(Comparator.comparingDouble(Player::wageEuro))
+        return snapshot.highestPaidPlayer(nationality)
                 .orElseThrow(() -> new NoSuchElementException("There is no player with that nationality."));
-
     }
 
     /**
      * Returns a breakdown of players by position. Note that some players can play in more than one position so they
      * should be present in more than one value Set. If no player plays in a given Position then that position should
-     * not be present as a key in the map.
+     * not be present as a key in the map. The returned map is unmodifiable.
      *
      * @return a Map with key: a Position and value: the set of players in the dataset that can play in that Position,
      * in undefined order.
      */
     public Map<Position, Set<Player>> groupByPosition() {
-        return players.stream()
-                .flatMap(player -> player.positions().stream().map(pos -> new Object[]{pos, player}))
-                .collect(
-                        Collectors.groupingBy(
-                                objects -> (Position) objects[0],
-                                Collectors.mapping(objects -> (Player) objects[1], Collectors.toSet())
-                        )
-                );
+        return snapshot.groups();
     }
 
     /**
@@ -116,10 +191,12 @@ public class FootballPlayerAnalyzer {
             throw new IllegalArgumentException("Budget is negative.");
         }
 
-        return players.stream()
-                .filter(pl -> pl.positions().contains(position))
-                .filter(pl -> pl.valueEuro() <= budget)
-                .max(Comparator.comparingDouble(Player::potential));
+        PlayerSnapshot current = snapshot;
+        int topProspect = current.topProspect(position, budget);
+
+        return topProspect == PlayerSnapshot.NO_ROW
+                ? Optional.empty()
+                : Optional.of(current.player(topProspect));
     }
 
     /**
@@ -137,11 +214,42 @@ public class FootballPlayerAnalyzer {
             throw new IllegalArgumentException("Player is null.");
         }
 
-        return players.stream()
-                .filter(pl -> pl.preferredFoot().equals(player.preferredFoot()))
-                .filter(pl -> Math.abs(pl.overallRating() - player.overallRating()) <= OVERALL_RATING_DIFFER)
-                .filter(pl -> pl.positions().stream().anyMatch(pos -> player.positions().contains(pos)))
-                .collect(Collectors.toUnmodifiableSet());
+        PlayerSnapshot current = snapshot;
+        PlayerIndexes indexes = current.indexes();
+
+        BitSet similarPlayers = indexes.ratingIndex().playersRatedBetween(
+                player.overallRating() - OVERALL_RATING_DIFFER, player.overallRating() + OVERALL_RATING_DIFFER
+        );
+        indexes.positionIndex().retainPlayersOf(similarPlayers, player.preferredFoot());
+        indexes.positionIndex().retainPlayersOf(similarPlayers, player.positions());
+        current.liveRows(similarPlayers, other -> isSimilar(player, other));
+
+        return Collections.unmodifiableSet(current.players(similarPlayers));
+    }
+
+    /**
+     * Returns an unmodifiable list of the {@code k} players nearest to the provided player, nearest first. Players are
+     * compared by overall rating, potential, age, height, weight, value, wage and the positions they can play in, with
+     * every numeric measure scaled to the range of the dataset and value and wage taken on a logarithmic scale. Players
+     * at equal distance keep their dataset order. If the dataset contains the provided player, the player will be
+     * present in the returned result for any positive {@code k}, unless other players have exactly the same measures.
+     * If the dataset has fewer than {@code k} players, returns all of them.
+     *
+     * @param player the player for whom the nearest players are retrieved. It may or may not be part of the dataset.
+     * @param k      the number of players to return
+     * @return an unmodifiable list of the nearest players
+     * @throws IllegalArgumentException if the provided player is null or k is negative
+     */
+    public List<Player> getNearestPlayers(Player player, int k) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        if (k < 0) {
+            throw new IllegalArgumentException("K is negative.");
+        }
+
+        return snapshot.nearest(player, k);
     }
 
     /**
@@ -156,9 +264,39 @@ public class FootballPlayerAnalyzer {
             throw new IllegalArgumentException("Keyword is null.");
         }
 
-        return players.stream()
-                .filter(pl -> pl.fullName().contains(keyword))
+        PlayerSnapshot current = snapshot;
+
+        return Arrays.stream(current.rowsContaining(keyword))
+                .mapToObj(current::player)
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * Returns the players that match the provided query as an unmodifiable List. Players are sorted by the query's
+     * order if it has one and are in dataset order otherwise, and at most the query's limit of players are returned.
+     * The most selective criteria are evaluated first through the dataset's indexes, so a query does not scan every
+     * player.
+     *
+     * @param query the query to run
+     * @return an unmodifiable list of the matching players
+     * @throws IllegalArgumentException if the provided query is null
+     */
+    public List<Player> query(PlayerQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query is null.");
+        }
+
+        return new QueryPlanner(snapshot).execute(query);
+    }
+
+    private void publish() {
+        snapshot = livePlayers.snapshot(snapshot.version() + 1);
+    }
+
+    private static boolean isSimilar(Player player, Player other) {
+        return Math.abs(player.overallRating() - other.overallRating()) <= OVERALL_RATING_DIFFER &&
+                player.preferredFoot() == other.preferredFoot() &&
+                !Collections.disjoint(player.positions(), other.positions());
+    }
+
 }
\ No newline at end of file
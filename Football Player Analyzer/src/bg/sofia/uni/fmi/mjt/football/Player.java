@@ -22,7 +22,7 @@ public record Player(
 ) {
     private static final String PLAYER_DELIMITER = ";";
     private static final String POSITIONS_DELIMITER = ",";
-    private static final String BIRTH_DATE_FORMAT = "M/d/yyyy";
+    private static final DateTimeFormatter BIRTH_DATE_FORMATTER = DateTimeFormatter.ofPattern("M/d/yyyy");
 
     private static final int TOKEN_NAME_INDEX = 0;
     private static final int TOKEN_FULL_NAME_INDEX = 1;
@@ -45,12 +45,10 @@ public record Player(
                 .map(Position::valueOf)
                 .toList();
 
-        DateTimeFormatter birthDateFormatter = DateTimeFormatter.ofPattern(BIRTH_DATE_FORMAT);
-
         return new Player(
                 tokens[TOKEN_NAME_INDEX],
                 tokens[TOKEN_FULL_NAME_INDEX],
-                LocalDate.parse(tokens[TOKEN_BIRTH_DATE_INDEX], birthDateFormatter),
+                LocalDate.parse(tokens[TOKEN_BIRTH_DATE_INDEX], BIRTH_DATE_FORMATTER),
                 Integer.parseInt(tokens[TOKEN_AGE_INDEX]),
                 Double.parseDouble(tokens[TOKEN_HEIGHT_INDEX]),
                 Double.parseDouble(tokens[TOKEN_WEIGHT_INDEX]),
@@ -0,0 +1,215 @@
+package bg.sofia.uni.fmi.mjt.football.query;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public sealed interface PlayerPredicate extends Predicate<Player> {
+
+    /**
+     * Matches players that can play in at least one of the provided positions.
+     *
+     * @throws IllegalArgumentException if the positions or any of them are null
+     */
+    static PlayerPredicate position(Position... positions) {
+        if (positions == null) {
+            throw new IllegalArgumentException("Positions are null.");
+        }
+
+        return new PlaysIn(new HashSet<>(Arrays.asList(positions)));
+    }
+
+    /**
+     * Matches players that prefer the provided foot.
+     *
+     * @throws IllegalArgumentException if the foot is null
+     */
+    static PlayerPredicate foot(Foot foot) {
+        return new Prefers(foot);
+    }
+
+    /**
+     * Matches players of the provided nationality.
+     *
+     * @throws IllegalArgumentException if the nationality is null
+     */
+    static PlayerPredicate nationality(String nationality) {
+        return new IsFrom(nationality);
+    }
+
+    /**
+     * Matches players whose overall rating is between the provided bounds (inclusive).
+     */
+    static PlayerPredicate ratingBetween(int fromRating, int toRating) {
+        return new Between(Field.OVERALL_RATING, fromRating, toRating);
+    }
+
+    /**
+     * Matches players whose age is between the provided bounds (inclusive).
+     */
+    static PlayerPredicate ageBetween(int fromAge, int toAge) {
+        return new Between(Field.AGE, fromAge, toAge);
+    }
+
+    /**
+     * Matches players whose value_euro is between the provided bounds (inclusive).
+     */
+    static PlayerPredicate valueBetween(long fromValue, long toValue) {
+        return new Between(Field.VALUE_EURO, fromValue, toValue);
+    }
+
+    /**
+     * Matches players whose wage_euro is between the provided bounds (inclusive).
+     */
+    static PlayerPredicate wageBetween(long fromWage, long toWage) {
+        return new Between(Field.WAGE_EURO, fromWage, toWage);
+    }
+
+    /**
+     * Matches players that match all of the provided predicates.
+     *
+     * @throws IllegalArgumentException if the predicates or any of them are null, or there are no predicates
+     */
+    static PlayerPredicate allOf(PlayerPredicate... predicates) {
+        return new All(asList(predicates));
+    }
+
+    /**
+     * Matches players that match at least one of the provided predicates.
+     *
+     * @throws IllegalArgumentException if the predicates or any of them are null, or there are no predicates
+     */
+    static PlayerPredicate anyOf(PlayerPredicate... predicates) {
+        return new Any(asList(predicates));
+    }
+
+    default PlayerPredicate and(PlayerPredicate other) {
+        return allOf(this, other);
+    }
+
+    default PlayerPredicate or(PlayerPredicate other) {
+        return anyOf(this, other);
+    }
+
+    private static List<PlayerPredicate> asList(PlayerPredicate... predicates) {
+        if (predicates == null) {
+            throw new IllegalArgumentException("Predicates are null.");
+        }
+
+        return Arrays.asList(predicates);
+    }
+
+    private static List<PlayerPredicate> copyOfOperands(List<PlayerPredicate> operands) {
+        if (operands == null || operands.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Predicates are null.");
+        }
+
+        if (operands.isEmpty()) {
+            throw new IllegalArgumentException("There are no predicates.");
+        }
+
+        return List.copyOf(operands);
+    }
+
+    enum Field {
+        OVERALL_RATING, AGE, VALUE_EURO, WAGE_EURO;
+
+        long of(Player player) {
+            return switch (this) {
+                case OVERALL_RATING -> player.overallRating();
+                case AGE -> player.age();
+                case VALUE_EURO -> player.valueEuro();
+                case WAGE_EURO -> player.wageEuro();
+            };
+        }
+    }
+
+    record PlaysIn(Set<Position> positions) implements PlayerPredicate {
+        public PlaysIn {
+            if (positions == null || positions.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Positions are null.");
+            }
+
+            Set<Position> positionSet = EnumSet.noneOf(Position.class);
+            positionSet.addAll(positions);
+            positions = Collections.unmodifiableSet(positionSet);
+        }
+
+        @Override
+        public boolean test(Player player) {
+            return player.positions().stream().anyMatch(positions::contains);
+        }
+    }
+
+    record Prefers(Foot foot) implements PlayerPredicate {
+        public Prefers {
+            if (foot == null) {
+                throw new IllegalArgumentException("Foot is null.");
+            }
+        }
+
+        @Override
+        public boolean test(Player player) {
+            return player.preferredFoot() == foot;
+        }
+    }
+
+    record IsFrom(String nationality) implements PlayerPredicate {
+        public IsFrom {
+            if (nationality == null) {
+                throw new IllegalArgumentException("Nationality is null.");
+            }
+        }
+
+        @Override
+        public boolean test(Player player) {
+            return player.nationality().equals(nationality);
+        }
+    }
+
+    record Between(Field field, long from, long to) implements PlayerPredicate {
+        public Between {
+            if (field == null) {
+                throw new IllegalArgumentException("Field is null.");
+            }
+        }
+
+        @Override
+        public boolean test(Player player) {
+            long value = field.of(player);
+
+            return value >= from && value <= to;
+        }
+    }
+
+    record All(List<PlayerPredicate> operands) implements PlayerPredicate {
+        public All {
+            operands = copyOfOperands(operands);
+        }
+
+        @Override
+        public boolean test(Player player) {
+            return operands.stream().allMatch(operand -> operand.test(player));
+        }
+    }
+
+    record Any(List<PlayerPredicate> operands) implements PlayerPredicate {
+        public Any {
+            operands = copyOfOperands(operands);
+        }
+
+        @Override
+        public boolean test(Player player) {
+            return operands.stream().anyMatch(operand -> operand.test(player));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package bg.sofia.uni.fmi.mjt.football.query;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+public final class PlayerQuery {
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final PlayerPredicate predicate;
+    private final Comparator<Player> order;
+    private final int limit;
+
+    private PlayerQuery(PlayerPredicate predicate, Comparator<Player> order, int limit) {
+        this.predicate = predicate;
+        this.order = order;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a query for the players that match the provided predicate, in dataset order and without a limit.
+     *
+     * @throws IllegalArgumentException if the predicate is null
+     */
+    public static PlayerQuery where(PlayerPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate is null.");
+        }
+
+        return new PlayerQuery(predicate, null, NO_LIMIT);
+    }
+
+    /**
+     * Returns a copy of this query that sorts the matching players by the provided order. Players that are equal by
+     * the order keep their dataset order.
+     *
+     * @throws IllegalArgumentException if the order is null
+     */
+    public PlayerQuery orderBy(Comparator<Player> order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order is null.");
+        }
+
+        return new PlayerQuery(predicate, order, limit);
+    }
+
+    /**
+     * Returns a copy of this query that keeps only the first {@code limit} matching players.
+     *
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public PlayerQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit is negative.");
+        }
+
+        return new PlayerQuery(predicate, order, limit);
+    }
+
+    public PlayerPredicate predicate() {
+        return predicate;
+    }
+
+    public Optional<Comparator<Player>> order() {
+        return Optional.ofNullable(order);
+    }
+
+    public int limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,231 @@
+package bg.sofia.uni.fmi.mjt.football.query;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.store.NationalityAggregates;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerIndexes;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerSnapshot;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerTable;
+import bg.sofia.uni.fmi.mjt.football.store.SortedRowIndex;
+import bg.sofia.uni.fmi.mjt.football.store.StringDictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+public class QueryPlanner {
+    private final PlayerSnapshot snapshot;
+    private final PlayerIndexes indexes;
+    private final PlayerTable table;
+
+    public QueryPlanner(PlayerSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot is null.");
+        }
+
+        this.snapshot = snapshot;
+        this.indexes = snapshot.indexes();
+        this.table = indexes.table();
+    }
+
+    public List<Player> execute(PlayerQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query is null.");
+        }
+
+        BitSet rows = rowsMatching(query.predicate());
+
+        if (query.order().isEmpty()) {
+            List<Player> players = new ArrayList<>(Math.min(query.limit(), rows.cardinality()));
+            for (int row = rows.nextSetBit(0); row >= 0 && players.size() < query.limit();
+                 row = rows.nextSetBit(row + 1)) {
+                players.add(snapshot.player(row));
+            }
+
+            return List.copyOf(players);
+        }
+
+        return List.copyOf(topRows(rows, query.order().get(), query.limit()));
+    }
+
+    public BitSet rowsMatching(PlayerPredicate predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate is null.");
+        }
+
+        return snapshot.liveRows(indexedRowsMatching(predicate), predicate);
+    }
+
+    private BitSet indexedRowsMatching(PlayerPredicate predicate) {
+        return switch (predicate) {
+            case PlayerPredicate.All all -> rowsMatchingAll(all.operands());
+            case PlayerPredicate.Any any -> {
+                BitSet rows = new BitSet(table.size());
+                for (PlayerPredicate operand : any.operands()) {
+                    rows.or(indexedRowsMatching(operand));
+                }
+
+                yield rows;
+            }
+            case PlayerPredicate.PlaysIn playsIn -> indexes.positionIndex().playersOf(playsIn.positions());
+            case PlayerPredicate.Prefers prefers -> indexes.positionIndex().playersOf(prefers.foot());
+            case PlayerPredicate.IsFrom isFrom -> {
+                BitSet rows = new BitSet(table.size());
+                int nationality = table.nationalities().codeOf(isFrom.nationality());
+                if (nationality != StringDictionary.MISSING_CODE) {
+                    indexes.nationalityAggregates().rowsOf(nationality).forEach(rows::set);
+                }
+
+                yield rows;
+            }
+            case PlayerPredicate.Between between -> switch (between.field()) {
+                case OVERALL_RATING -> indexes.ratingIndex()
+                        .playersRatedBetween(toRating(between.from()), toRating(between.to()));
+                default -> indexOf(between.field()).rowsBetween(between.from(), between.to());
+            };
+        };
+    }
+
+    private int estimate(PlayerPredicate predicate) {
+        return switch (predicate) {
+            case PlayerPredicate.All all -> all.operands().stream()
+                    .mapToInt(this::estimate)
+                    .min()
+                    .orElse(table.size());
+            case PlayerPredicate.Any any -> (int) Math.min(table.size(), any.operands().stream()
+                    .mapToLong(this::estimate)
+                    .sum());
+            case PlayerPredicate.PlaysIn playsIn -> (int) Math.min(table.size(), playsIn.positions().stream()
+                    .mapToLong(position -> indexes.positionIndex().countOf(position))
+                    .sum());
+            case PlayerPredicate.Prefers prefers -> indexes.positionIndex().countOf(prefers.foot());
+            case PlayerPredicate.IsFrom isFrom -> {
+                NationalityAggregates aggregates = indexes.nationalityAggregates();
+                int nationality = aggregates.nationalityOf(isFrom.nationality());
+
+                yield nationality == StringDictionary.MISSING_CODE ? 0 : aggregates.count(nationality);
+            }
+            case PlayerPredicate.Between between -> switch (between.field()) {
+                case OVERALL_RATING -> indexes.ratingIndex()
+                        .countRatedBetween(toRating(between.from()), toRating(between.to()));
+                default -> indexOf(between.field()).countBetween(between.from(), between.to());
+            };
+        };
+    }
+
+    private BitSet rowsMatchingAll(List<PlayerPredicate> operands) {
+        List<PlayerPredicate> bySelectivity = new ArrayList<>(operands);
+        int[] estimates = bySelectivity.stream().mapToInt(this::estimate).toArray();
+        sortByEstimate(bySelectivity, estimates);
+
+        BitSet rows = indexedRowsMatching(bySelectivity.getFirst());
+        for (int i = 1; i < bySelectivity.size() && !rows.isEmpty(); i++) {
+            PlayerPredicate operand = bySelectivity.get(i);
+
+            if (rows.cardinality() < estimates[i]) {
+                IntPredicate filter = rowFilter(operand);
+                for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                    if (!filter.test(row)) {
+                        rows.clear(row);
+                    }
+                }
+            } else {
+                rows.and(indexedRowsMatching(operand));
+            }
+        }
+
+        return rows;
+    }
+
+    private IntPredicate rowFilter(PlayerPredicate predicate) {
+        return switch (predicate) {
+            case PlayerPredicate.All all -> all.operands().stream()
+                    .map(this::rowFilter)
+                    .reduce(IntPredicate::and)
+                    .orElseThrow();
+            case PlayerPredicate.Any any -> any.operands().stream()
+                    .map(this::rowFilter)
+                    .reduce(IntPredicate::or)
+                    .orElseThrow();
+            case PlayerPredicate.PlaysIn playsIn -> {
+                short mask = PlayerTable.positionMask(playsIn.positions());
+
+                yield row -> (table.positionMask(row) & mask) != 0;
+            }
+            case PlayerPredicate.Prefers prefers -> row -> table.foot(row) == prefers.foot();
+            case PlayerPredicate.IsFrom isFrom -> {
+                int nationality = table.nationalities().codeOf(isFrom.nationality());
+
+                yield row -> table.nationality(row) == nationality;
+            }
+            case PlayerPredicate.Between between -> {
+                IntToLongFunction column = switch (between.field()) {
+                    case OVERALL_RATING -> table::overallRating;
+                    case AGE -> table::age;
+                    case VALUE_EURO -> table::valueEuro;
+                    case WAGE_EURO -> table::wageEuro;
+                };
+
+                yield row -> {
+                    long value = column.applyAsLong(row);
+
+                    return value >= between.from() && value <= between.to();
+                };
+            }
+        };
+    }
+
+    private List<Player> topRows(BitSet rows, Comparator<Player> order, int limit) {
+        Comparator<Integer> rowOrder = Comparator.<Integer, Player>comparing(snapshot::player, order)
+                .thenComparing(Comparator.naturalOrder());
+
+        if (limit >= rows.cardinality()) {
+            return rows.stream()
+                    .boxed()
+                    .sorted(rowOrder)
+                    .map(snapshot::player)
+                    .toList();
+        }
+
+        PriorityQueue<Integer> worstFirst = new PriorityQueue<>(limit + 1, rowOrder.reversed());
+        for (int row = rows.nextSetBit(0); row >= 0 && limit > 0; row = rows.nextSetBit(row + 1)) {
+            worstFirst.add(row);
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+
+        return worstFirst.stream()
+                .sorted(rowOrder)
+                .map(snapshot::player)
+                .toList();
+    }
+
+    private SortedRowIndex indexOf(PlayerPredicate.Field field) {
+        return switch (field) {
+            case AGE -> indexes.ageIndex();
+            case VALUE_EURO -> indexes.valueIndex();
+            case WAGE_EURO -> indexes.wageIndex();
+            case OVERALL_RATING -> throw new IllegalArgumentException("Overall rating has no sorted index.");
+        };
+    }
+
+    private static int toRating(long rating) {
+        return Math.clamp(rating, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static void sortByEstimate(List<PlayerPredicate> predicates, int[] estimates) {
+        for (int i = 1; i < predicates.size(); i++) {
+            for (int j = i; j > 0 && estimates[j] < estimates[j - 1]; j--) {
+                int estimate = estimates[j];
+                estimates[j] = estimates[j - 1];
+                estimates[j - 1] = estimate;
+
+                predicates.set(j, predicates.set(j - 1, predicates.get(j)));
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.function.IntPredicate;
+
+public class KdTree {
+    private static final int LEAF_SIZE = 8;
+
+    private final PlayerFeatures features;
+    private final int[] rows;
+    private final byte[] splitFeatures;
+
+    public KdTree(PlayerFeatures features) {
+        if (features == null) {
+            throw new IllegalArgumentException("Features are null.");
+        }
+
+        this.features = features;
+        this.rows = new int[features.size()];
+        this.splitFeatures = new byte[features.size()];
+
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = row;
+        }
+        build(0, rows.length);
+    }
+
+    public PlayerFeatures features() {
+        return features;
+    }
+
+    public int[] nearest(double[] point, int k) {
+        return nearest(point, k, row -> false);
+    }
+
+    public int[] nearest(double[] point, int k, IntPredicate isExcluded) {
+        if (point == null || point.length != PlayerFeatures.FEATURES_COUNT) {
+            throw new IllegalArgumentException("Point does not have a value for every feature.");
+        }
+
+        if (k < 0) {
+            throw new IllegalArgumentException("K is negative.");
+        }
+
+        if (isExcluded == null) {
+            throw new IllegalArgumentException("Exclusion predicate is null.");
+        }
+
+        NeighbourHeap neighbours = new NeighbourHeap(Math.min(k, rows.length));
+        if (neighbours.capacity() > 0) {
+            search(0, rows.length, point, new double[PlayerFeatures.FEATURES_COUNT], 0, isExcluded, neighbours);
+        }
+
+        return neighbours.toSortedRows();
+    }
+
+    private void build(int from, int to) {
+        if (to - from <= LEAF_SIZE) {
+            return;
+        }
+
+        int feature = widestFeature(from, to);
+        int middle = (from + to) >>> 1;
+        select(from, to, middle, feature);
+        splitFeatures[middle] = (byte) feature;
+
+        build(from, middle);
+        build(middle + 1, to);
+    }
+
+    private void search(int from, int to, double[] point, double[] offsets, double boxDistance,
+                        IntPredicate isExcluded, NeighbourHeap neighbours) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                offer(rows[i], point, isExcluded, neighbours);
+            }
+
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        int feature = splitFeatures[middle];
+        double difference = point[feature] - features.coordinate(rows[middle], feature);
+
+        offer(rows[middle], point, isExcluded, neighbours);
+
+        boolean isLeftNear = difference < 0;
+        search(isLeftNear ? from : middle + 1, isLeftNear ? middle : to, point, offsets, boxDistance, isExcluded,
+                neighbours);
+
+        double offset = offsets[feature];
+        double farBoxDistance = boxDistance - offset * offset + difference * difference;
+        if (neighbours.accepts(farBoxDistance)) {
+            offsets[feature] = difference;
+            search(isLeftNear ? middle + 1 : from, isLeftNear ? to : middle, point, offsets, farBoxDistance,
+                    isExcluded, neighbours);
+            offsets[feature] = offset;
+        }
+    }
+
+    private void offer(int row, double[] point, IntPredicate isExcluded, NeighbourHeap neighbours) {
+        if (!isExcluded.test(row)) {
+            neighbours.offer(features.squaredDistance(row, point, neighbours.bound()), row);
+        }
+    }
+
+    private int widestFeature(int from, int to) {
+        int widest = 0;
+        double widestSpread = -1;
+
+        for (int feature = 0; feature < PlayerFeatures.FEATURES_COUNT; feature++) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double coordinate = features.coordinate(rows[i], feature);
+                minimum = Math.min(minimum, coordinate);
+                maximum = Math.max(maximum, coordinate);
+            }
+
+            if (maximum - minimum > widestSpread) {
+                widest = feature;
+                widestSpread = maximum - minimum;
+            }
+        }
+
+        return widest;
+    }
+
+    private void select(int from, int to, int nth, int feature) {
+        while (to - from > 1) {
+            double pivot = features.coordinate(rows[(from + to) >>> 1], feature);
+
+            int less = from;
+            int greater = to;
+            for (int i = from; i < greater; ) {
+                double coordinate = features.coordinate(rows[i], feature);
+                if (coordinate < pivot) {
+                    swap(i++, less++);
+                } else if (coordinate > pivot) {
+                    swap(i, --greater);
+                } else {
+                    i++;
+                }
+            }
+
+            if (nth < less) {
+                to = less;
+            } else if (nth >= greater) {
+                from = greater;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+    }
+
+    private static final class NeighbourHeap {
+        private final double[] distances;
+        private final int[] rows;
+        private int size = 0;
+
+        private NeighbourHeap(int capacity) {
+            this.distances = new double[capacity];
+            this.rows = new int[capacity];
+        }
+
+        private int capacity() {
+            return rows.length;
+        }
+
+        private double bound() {
+            return size < rows.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        private boolean accepts(double distance) {
+            return size < rows.length || distance <= distances[0];
+        }
+
+        private void offer(double distance, int row) {
+            if (size < rows.length) {
+                distances[size] = distance;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (isCloser(distance, row, distances[0], rows[0])) {
+                distances[0] = distance;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        private int[] toSortedRows() {
+            int[] sorted = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sorted[i] = rows[0];
+                distances[0] = distances[--size];
+                rows[0] = rows[size];
+                siftDown(0);
+            }
+
+            return sorted;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!isCloser(distances[parent], rows[parent], distances[i], rows[i])) {
+                    return;
+                }
+
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int farthest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (isCloser(distances[farthest], rows[farthest], distances[child], rows[child])) {
+                        farthest = child;
+                    }
+                }
+
+                if (farthest == i) {
+                    return;
+                }
+
+                swap(i, farthest);
+                i = farthest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            double distance = distances[i];
+            distances[i] = distances[j];
+            distances[j] = distance;
+
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+
+        private static boolean isCloser(double distance, int row, double otherDistance, int otherRow) {
+            return distance < otherDistance || distance == otherDistance && row < otherRow;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The writable side of the dataset. It is not thread-safe: writes are expected to be serialized by the caller, which
+ * publishes the result of {@link #snapshot(long)} to readers.
+ * <p>
+ * Rows are only ever appended to a shared array and removed rows are only marked, so earlier snapshots keep seeing
+ * their own rows. The indexes of the current batch cover the rows that existed when it started. Once the rows written
+ * since then outgrow a fraction of the batch, the live rows are compacted into a new batch whose indexes are rebuilt
+ * lazily. Players are found by full name and birth date through a hash map, and the nationalities with their highest
+ * paid players are kept up to date on every write.
+ */
+public class LivePlayers {
+    private static final int NO_ROW = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_PENDING_ROWS = 1024;
+    private static final int PENDING_ROWS_DIVISOR = 64;
+
+    private PlayerIndexes indexes;
+    private Player[] rows;
+    private int rowsCount;
+    private int[] removedRows;
+    private int removedCount;
+    private PlayerSnapshot published;
+
+    private Map<PlayerKey, Integer> lastRowPerKey;
+    private int[] previousRowsWithKey;
+
+    private Map<String, Integer> playersCountPerNationality;
+    private Map<String, Player> highestPaidPlayers;
+    private Set<String> publishedNationalities;
+    private Map<String, Player> publishedHighestPaidPlayers;
+
+    public LivePlayers(List<Player> players) {
+        if (players == null) {
+            throw new IllegalArgumentException("Players are null.");
+        }
+
+        this.indexes = new PlayerIndexes(players);
+        this.rows = Arrays.copyOf(indexes.players().toArray(Player[]::new),
+                Math.max(INITIAL_CAPACITY, indexes.size()));
+        this.rowsCount = indexes.size();
+        this.removedRows = new int[INITIAL_CAPACITY];
+        this.removedCount = 0;
+    }
+
+    /**
+     * Adds the provided player, replacing every player with the same full name and birth date.
+     */
+    public void upsert(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        ensureKeys();
+        ensureNationalities();
+
+        PlayerKey key = PlayerKey.of(player);
+        Integer lastRow = lastRowPerKey.get(key);
+        if (lastRow != null) {
+            removeRows(lastRow);
+        }
+
+        append(player);
+        lastRowPerKey.put(key, rowsCount - 1);
+        addToNationality(player);
+
+        rebuildIfOutgrown();
+    }
+
+    /**
+     * Removes every player with the same full name and birth date as the provided player.
+     *
+     * @return true if a player was removed
+     */
+    public boolean remove(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        ensureKeys();
+        ensureNationalities();
+
+        Integer lastRow = lastRowPerKey.remove(PlayerKey.of(player));
+        if (lastRow == null) {
+            return false;
+        }
+
+        removeRows(lastRow);
+        rebuildIfOutgrown();
+
+        return true;
+    }
+
+    public PlayerSnapshot snapshot(long version) {
+        published = new PlayerSnapshot(version, indexes, rows, rowsCount, Arrays.copyOf(removedRows, removedCount),
+                publishedNationalities(), publishedHighestPaidPlayers());
+
+        return published;
+    }
+
+    private void append(Player player) {
+        if (rowsCount == rows.length) {
+            rows = Arrays.copyOf(rows, rowsCount * 2);
+            previousRowsWithKey = Arrays.copyOf(previousRowsWithKey, rowsCount * 2);
+        }
+
+        rows[rowsCount] = player;
+        previousRowsWithKey[rowsCount++] = NO_ROW;
+    }
+
+    private void removeRows(int lastRow) {
+        for (int row = lastRow; row != NO_ROW; row = previousRowsWithKey[row]) {
+            markRemoved(row);
+        }
+
+        for (int row = lastRow; row != NO_ROW; row = previousRowsWithKey[row]) {
+            removeFromNationality(rows[row]);
+        }
+    }
+
+    private void markRemoved(int row) {
+        if (removedCount == removedRows.length) {
+            removedRows = Arrays.copyOf(removedRows, removedCount * 2);
+        }
+
+        int position = -Arrays.binarySearch(removedRows, 0, removedCount, row) - 1;
+        System.arraycopy(removedRows, position, removedRows, position + 1, removedCount - position);
+        removedRows[position] = row;
+        removedCount++;
+    }
+
+    private boolean isRemoved(int row) {
+        return Arrays.binarySearch(removedRows, 0, removedCount, row) >= 0;
+    }
+
+    private void rebuildIfOutgrown() {
+        int pendingRows = rowsCount - indexes.size() + removedCount;
+        boolean isOutgrown = published != null && published.hasOutgrownFeatureTree();
+
+        if (pendingRows > Math.max(MIN_PENDING_ROWS, indexes.size() / PENDING_ROWS_DIVISOR) || isOutgrown) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        int[] newRows = new int[rowsCount];
+        Player[] liveRows = new Player[rows.length];
+        int[] livePreviousRowsWithKey = new int[rows.length];
+
+        int liveCount = 0;
+        for (int row = 0, removed = 0; row < rowsCount; row++) {
+            if (removed < removedCount && removedRows[removed] == row) {
+                newRows[row] = NO_ROW;
+                removed++;
+                continue;
+            }
+
+            int previousRow = previousRowsWithKey[row];
+            liveRows[liveCount] = rows[row];
+            livePreviousRowsWithKey[liveCount] = previousRow == NO_ROW ? NO_ROW : newRows[previousRow];
+            newRows[row] = liveCount++;
+        }
+
+        lastRowPerKey.replaceAll((key, row) -> newRows[row]);
+
+        rows = liveRows;
+        previousRowsWithKey = livePreviousRowsWithKey;
+        rowsCount = liveCount;
+        removedCount = 0;
+        indexes = new PlayerIndexes(Arrays.asList(rows).subList(0, rowsCount));
+    }
+
+    private void ensureKeys() {
+        if (lastRowPerKey != null) {
+            return;
+        }
+
+        lastRowPerKey = HashMap.newHashMap(rowsCount);
+        previousRowsWithKey = new int[rows.length];
+        for (int row = 0; row < rowsCount; row++) {
+            Integer previousRow = lastRowPerKey.put(PlayerKey.of(rows[row]), row);
+            previousRowsWithKey[row] = previousRow == null ? NO_ROW : previousRow;
+        }
+    }
+
+    private void ensureNationalities() {
+        if (playersCountPerNationality != null) {
+            return;
+        }
+
+        playersCountPerNationality = new HashMap<>();
+        highestPaidPlayers = new HashMap<>();
+        for (int row = 0; row < rowsCount; row++) {
+            addToNationality(rows[row]);
+        }
+    }
+
+    private void addToNationality(Player player) {
+        if (playersCountPerNationality.merge(player.nationality(), 1, Integer::sum) == 1) {
+            publishedNationalities = null;
+        }
+
+        Player highestPaid = highestPaidPlayers.get(player.nationality());
+        if (highestPaid == null || player.wageEuro() > highestPaid.wageEuro()) {
+            highestPaidPlayers.put(player.nationality(), player);
+            publishedHighestPaidPlayers = null;
+        }
+    }
+
+    private void removeFromNationality(Player player) {
+        String nationality = player.nationality();
+        if (playersCountPerNationality.merge(nationality, -1, Integer::sum) == 0) {
+            playersCountPerNationality.remove(nationality);
+            highestPaidPlayers.remove(nationality);
+            publishedNationalities = null;
+            publishedHighestPaidPlayers = null;
+        } else if (highestPaidPlayers.get(nationality) == player) {
+            highestPaidPlayers.put(nationality, highestPaidPlayerOf(nationality));
+            publishedHighestPaidPlayers = null;
+        }
+    }
+
+    private Player highestPaidPlayerOf(String nationality) {
+        Player highestPaid = null;
+
+        NationalityAggregates aggregates = indexes.nationalityAggregates();
+        int code = aggregates.nationalityOf(nationality);
+        if (code != StringDictionary.MISSING_CODE) {
+            for (int ordinal = aggregates.firstOrdinal(code); ordinal < aggregates.endOrdinal(code); ordinal++) {
+                highestPaid = higherPaid(highestPaid, aggregates.row(ordinal));
+            }
+        }
+
+        for (int row = indexes.size(); row < rowsCount; row++) {
+            if (rows[row].nationality().equals(nationality)) {
+                highestPaid = higherPaid(highestPaid, row);
+            }
+        }
+
+        return highestPaid;
+    }
+
+    private Player higherPaid(Player highestPaid, int row) {
+        if (isRemoved(row) || highestPaid != null && rows[row].wageEuro() <= highestPaid.wageEuro()) {
+            return highestPaid;
+        }
+
+        return rows[row];
+    }
+
+    private Set<String> publishedNationalities() {
+        if (playersCountPerNationality == null) {
+            return null;
+        }
+
+        if (publishedNationalities == null) {
+            publishedNationalities = Set.copyOf(playersCountPerNationality.keySet());
+        }
+
+        return publishedNationalities;
+    }
+
+    private Map<String, Player> publishedHighestPaidPlayers() {
+        if (highestPaidPlayers == null) {
+            return null;
+        }
+
+        if (publishedHighestPaidPlayers == null) {
+            publishedHighestPaidPlayers = Map.copyOf(highestPaidPlayers);
+        }
+
+        return publishedHighestPaidPlayers;
+    }
+
+    private record PlayerKey(String fullName, LocalDate birthDate) {
+        private static PlayerKey of(Player player) {
+            return new PlayerKey(player.fullName(), player.birthDate());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class MappedPlayerLoader {
+    private static final byte LINE_FEED = '\n';
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final long DEFAULT_MAX_CHUNK_SIZE = 1L << 24;
+    private static final long SCAN_WINDOW_SIZE = 1L << 12;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final long maxChunkSize;
+
+    public MappedPlayerLoader(ForkJoinPool pool) {
+        this(pool, DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    MappedPlayerLoader(ForkJoinPool pool, long maxChunkSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null.");
+        }
+
+        if (maxChunkSize < 1) {
+            throw new IllegalArgumentException("Max chunk size is less than 1.");
+        }
+
+        this.pool = pool;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public List<Player> load(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null.");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitAtLines(channel);
+
+            List<Callable<List<Player>>> tasks = new ArrayList<>();
+            for (int chunk = 0; chunk + 1 < bounds.length; chunk++) {
+                long start = bounds[chunk];
+                long end = bounds[chunk + 1];
+                boolean hasHeader = chunk == 0;
+
+                tasks.add(() -> parse(decode(channel, start, end), hasHeader));
+            }
+
+            List<Player> players = new ArrayList<>();
+            invokeAll(tasks).forEach(players::addAll);
+
+            return players;
+        }
+    }
+
+    private long[] splitAtLines(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(
+                (long) pool.getParallelism() * CHUNKS_PER_THREAD,
+                (size + maxChunkSize - 1) / maxChunkSize
+        );
+        long chunkSize = Math.max(1, (size + chunks - 1) / chunks);
+        chunks = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+
+        List<Callable<Long>> lineFinders = new ArrayList<>();
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            long start = chunk * chunkSize;
+            lineFinders.add(() -> findLineStart(channel, start, size));
+        }
+        List<Long> lineStarts = invokeAll(lineFinders);
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        for (long lineStart : lineStarts) {
+            if (lineStart > bounds.get(bounds.size() - 1) && lineStart < size) {
+                bounds.add(lineStart);
+            }
+        }
+        bounds.add(size);
+
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long findLineStart(FileChannel channel, long start, long size) throws IOException {
+        for (long windowStart = start; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+            long windowEnd = Math.min(size, windowStart + SCAN_WINDOW_SIZE);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return windowStart + i + 1;
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private CharBuffer decode(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes);
+    }
+
+    private List<Player> parse(CharBuffer buffer, boolean hasHeader) {
+        char[] chars = buffer.array();
+        int end = buffer.arrayOffset() + buffer.limit();
+
+        PlayerParser parser = new PlayerParser();
+        List<Player> players = new ArrayList<>();
+
+        boolean isHeader = hasHeader;
+        for (int lineStart = buffer.arrayOffset() + buffer.position(); lineStart < end; ) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && chars[lineEnd] != LINE_SEPARATOR) {
+                lineEnd++;
+            }
+
+            int contentEnd = lineEnd > lineStart && chars[lineEnd - 1] == CARRIAGE_RETURN ? lineEnd - 1 : lineEnd;
+            if (isHeader) {
+                isHeader = false;
+            } else if (contentEnd > lineStart) {
+                players.add(parser.parse(chars, lineStart, contentEnd));
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        return players;
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Loading was interrupted.");
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case IOException cause -> throw cause;
+                case UncheckedIOException cause -> throw cause.getCause();
+                case RuntimeException cause -> throw cause;
+                default -> throw new IOException("Something went wrong when loading the file.", e.getCause());
+            }
+        }
+
+        return results;
+    }
+}
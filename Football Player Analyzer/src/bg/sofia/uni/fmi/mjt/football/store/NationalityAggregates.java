@@ -0,0 +1,95 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public class NationalityAggregates {
+    public static final int NO_ROW = -1;
+
+    private final StringDictionary nationalities;
+    private final Set<String> nationalityNames;
+    private final int[] rowsByNationality;
+    private final int[] firstOrdinals;
+    private final int[] highestPaidRows;
+
+    public NationalityAggregates(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        this.nationalities = table.nationalities();
+        this.nationalityNames = Set.copyOf(nationalities.values());
+
+        int nationalitiesCount = nationalities.size();
+        this.firstOrdinals = new int[nationalitiesCount + 1];
+        this.highestPaidRows = new int[nationalitiesCount];
+        Arrays.fill(highestPaidRows, NO_ROW);
+
+        for (int row = 0; row < table.size(); row++) {
+            int nationality = table.nationality(row);
+            firstOrdinals[nationality + 1]++;
+
+            int highestPaid = highestPaidRows[nationality];
+            if (highestPaid == NO_ROW || table.wageEuro(row) > table.wageEuro(highestPaid)) {
+                highestPaidRows[nationality] = row;
+            }
+        }
+
+        for (int nationality = 0; nationality < nationalitiesCount; nationality++) {
+            firstOrdinals[nationality + 1] += firstOrdinals[nationality];
+        }
+
+        this.rowsByNationality = new int[table.size()];
+        int[] nextOrdinals = Arrays.copyOf(firstOrdinals, nationalitiesCount);
+        for (int row = 0; row < table.size(); row++) {
+            rowsByNationality[nextOrdinals[table.nationality(row)]++] = row;
+        }
+    }
+
+    public Set<String> nationalities() {
+        return nationalityNames;
+    }
+
+    public int nationalityOf(String name) {
+        return nationalities.codeOf(name);
+    }
+
+    public int count(int nationality) {
+        checkNationality(nationality);
+
+        return firstOrdinals[nationality + 1] - firstOrdinals[nationality];
+    }
+
+    public int firstOrdinal(int nationality) {
+        checkNationality(nationality);
+
+        return firstOrdinals[nationality];
+    }
+
+    public int endOrdinal(int nationality) {
+        checkNationality(nationality);
+
+        return firstOrdinals[nationality + 1];
+    }
+
+    public int row(int ordinal) {
+        return rowsByNationality[ordinal];
+    }
+
+    public IntStream rowsOf(int nationality) {
+        return Arrays.stream(rowsByNationality, firstOrdinal(nationality), endOrdinal(nationality));
+    }
+
+    public int highestPaid(int nationality) {
+        checkNationality(nationality);
+
+        return highestPaidRows[nationality];
+    }
+
+    private void checkNationality(int nationality) {
+        if (nationality < 0 || nationality >= highestPaidRows.length) {
+            throw new IllegalArgumentException("Nationality is not aggregated.");
+        }
+    }
+}
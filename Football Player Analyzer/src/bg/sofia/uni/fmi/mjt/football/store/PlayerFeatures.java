@@ -0,0 +1,180 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public class PlayerFeatures {
+    private static final int OVERALL_RATING = 0;
+    private static final int POTENTIAL = 1;
+    private static final int AGE = 2;
+    private static final int HEIGHT = 3;
+    private static final int WEIGHT = 4;
+    private static final int VALUE = 5;
+    private static final int WAGE = 6;
+    private static final int NUMERIC_FEATURES_COUNT = 7;
+
+    public static final int FEATURES_COUNT = NUMERIC_FEATURES_COUNT + Position.values().length;
+
+    private final int size;
+    private final double[] points;
+    private final double[] minimums;
+    private final double[] maximums;
+    private final int[] minimumCounts;
+    private final int[] maximumCounts;
+    private final double[] ranges;
+
+    public PlayerFeatures(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        this.size = table.size();
+        this.points = new double[size * FEATURES_COUNT];
+        this.minimums = new double[NUMERIC_FEATURES_COUNT];
+        this.maximums = new double[NUMERIC_FEATURES_COUNT];
+        this.minimumCounts = new int[NUMERIC_FEATURES_COUNT];
+        this.maximumCounts = new int[NUMERIC_FEATURES_COUNT];
+        this.ranges = new double[NUMERIC_FEATURES_COUNT];
+
+        Arrays.fill(minimums, Double.POSITIVE_INFINITY);
+        Arrays.fill(maximums, Double.NEGATIVE_INFINITY);
+
+        double[] raw = new double[FEATURES_COUNT];
+        for (int row = 0; row < size; row++) {
+            rawFeatures(table.player(row), raw);
+            System.arraycopy(raw, 0, points, row * FEATURES_COUNT, FEATURES_COUNT);
+
+            for (int feature = 0; feature < NUMERIC_FEATURES_COUNT; feature++) {
+                minimums[feature] = Math.min(minimums[feature], raw[feature]);
+                maximums[feature] = Math.max(maximums[feature], raw[feature]);
+            }
+        }
+
+        for (int feature = 0; feature < NUMERIC_FEATURES_COUNT; feature++) {
+            ranges[feature] = size == 0 ? 0 : maximums[feature] - minimums[feature];
+        }
+
+        for (int row = 0; row < size; row++) {
+            countExtremes(points, row * FEATURES_COUNT, minimumCounts, maximumCounts, 1);
+            normalize(points, row * FEATURES_COUNT);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double coordinate(int row, int feature) {
+        return points[row * FEATURES_COUNT + feature];
+    }
+
+    public double[] featuresOf(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player is null.");
+        }
+
+        double[] features = new double[FEATURES_COUNT];
+        rawFeatures(player, features);
+        normalize(features, 0);
+
+        return features;
+    }
+
+    /**
+     * Returns whether the features of the dataset with the provided players removed and added are scaled exactly like
+     * these, i.e. whether every numeric measure keeps its minimum and maximum.
+     */
+    public boolean keepsScale(Collection<Player> removedPlayers, Collection<Player> addedPlayers) {
+        if (removedPlayers == null || addedPlayers == null) {
+            throw new IllegalArgumentException("Players are null.");
+        }
+
+        int[] keptMinimums = minimumCounts.clone();
+        int[] keptMaximums = maximumCounts.clone();
+        double[] raw = new double[FEATURES_COUNT];
+
+        for (Player player : removedPlayers) {
+            rawFeatures(player, raw);
+            countExtremes(raw, 0, keptMinimums, keptMaximums, -1);
+        }
+
+        for (Player player : addedPlayers) {
+            rawFeatures(player, raw);
+            for (int feature = 0; feature < NUMERIC_FEATURES_COUNT; feature++) {
+                if (raw[feature] < minimums[feature] || raw[feature] > maximums[feature]) {
+                    return false;
+                }
+            }
+
+            countExtremes(raw, 0, keptMinimums, keptMaximums, 1);
+        }
+
+        return Arrays.stream(keptMinimums).allMatch(count -> count > 0) &&
+                Arrays.stream(keptMaximums).allMatch(count -> count > 0);
+    }
+
+    public double squaredDistance(int row, double[] features) {
+        return squaredDistance(row, features, Double.POSITIVE_INFINITY);
+    }
+
+    public double squaredDistance(int row, double[] features, double limit) {
+        int offset = row * FEATURES_COUNT;
+
+        double distance = 0;
+        for (int feature = 0; feature < FEATURES_COUNT && distance <= limit; feature++) {
+            double difference = points[offset + feature] - features[feature];
+            distance += difference * difference;
+        }
+
+        return distance;
+    }
+
+    public static double squaredDistance(double[] features, double[] otherFeatures) {
+        double distance = 0;
+        for (int feature = 0; feature < FEATURES_COUNT; feature++) {
+            double difference = features[feature] - otherFeatures[feature];
+            distance += difference * difference;
+        }
+
+        return distance;
+    }
+
+    private void countExtremes(double[] features, int offset, int[] countsAtMinimum, int[] countsAtMaximum,
+                               int delta) {
+        for (int feature = 0; feature < NUMERIC_FEATURES_COUNT; feature++) {
+            if (features[offset + feature] == minimums[feature]) {
+                countsAtMinimum[feature] += delta;
+            }
+
+            if (features[offset + feature] == maximums[feature]) {
+                countsAtMaximum[feature] += delta;
+            }
+        }
+    }
+
+    private void normalize(double[] features, int offset) {
+        for (int feature = 0; feature < NUMERIC_FEATURES_COUNT; feature++) {
+            double value = features[offset + feature] - minimums[feature];
+            features[offset + feature] = ranges[feature] == 0 ? 0 : value / ranges[feature];
+        }
+    }
+
+    private static void rawFeatures(Player player, double[] features) {
+        Arrays.fill(features, 0);
+
+        features[OVERALL_RATING] = player.overallRating();
+        features[POTENTIAL] = player.potential();
+        features[AGE] = player.age();
+        features[HEIGHT] = player.heightCm();
+        features[WEIGHT] = player.weightKg();
+        features[VALUE] = Math.log1p(player.valueEuro());
+        features[WAGE] = Math.log1p(player.wageEuro());
+
+        for (Position position : player.positions()) {
+            features[NUMERIC_FEATURES_COUNT + position.ordinal()] = 1;
+        }
+    }
+}
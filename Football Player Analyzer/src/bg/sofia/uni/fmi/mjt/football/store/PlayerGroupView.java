@@ -0,0 +1,49 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class PlayerGroupView extends AbstractSet<Player> {
+    private final Set<Player> indexedPlayers;
+    private final Set<Player> removedPlayers;
+    private final Set<Player> pendingPlayers;
+    private final int size;
+
+    PlayerGroupView(Set<Player> indexedPlayers, Set<Player> removedPlayers, Set<Player> pendingPlayers) {
+        this.indexedPlayers = indexedPlayers;
+        this.removedPlayers = removedPlayers;
+        this.pendingPlayers = pendingPlayers;
+
+        int removedCount = 0;
+        for (Player player : removedPlayers) {
+            if (indexedPlayers.contains(player)) {
+                removedCount++;
+            }
+        }
+
+        this.size = indexedPlayers.size() - removedCount + pendingPlayers.size();
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return pendingPlayers.contains(object) ||
+                indexedPlayers.contains(object) && !removedPlayers.contains(object);
+    }
+
+    @Override
+    public Iterator<Player> iterator() {
+        return Stream.concat(
+                indexedPlayers.stream().filter(player -> !removedPlayers.contains(player)),
+                pendingPlayers.stream()
+        ).iterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,139 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+
+import java.util.List;
+
+public class PlayerIndexes {
+    private final List<Player> players;
+
+    private volatile PlayerTable table;
+    private volatile PositionIndex positionIndex;
+    private volatile RatingIndex ratingIndex;
+    private volatile PositionValueIndex positionValueIndex;
+    private volatile TrigramIndex trigramIndex;
+    private volatile NationalityAggregates nationalityAggregates;
+    private volatile SortedRowIndex ageIndex;
+    private volatile SortedRowIndex valueIndex;
+    private volatile SortedRowIndex wageIndex;
+    private volatile KdTree featureTree;
+
+    public PlayerIndexes(List<Player> players) {
+        if (players == null) {
+            throw new IllegalArgumentException("Players are null.");
+        }
+
+        this.players = List.copyOf(players);
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public PlayerTable table() {
+        PlayerTable current = table;
+        if (current == null) {
+            current = new PlayerTable(players);
+            table = current;
+        }
+
+        return current;
+    }
+
+    public PositionIndex positionIndex() {
+        PositionIndex index = positionIndex;
+        if (index == null) {
+            index = new PositionIndex(table());
+            positionIndex = index;
+        }
+
+        return index;
+    }
+
+    public RatingIndex ratingIndex() {
+        RatingIndex index = ratingIndex;
+        if (index == null) {
+            index = new RatingIndex(table());
+            ratingIndex = index;
+        }
+
+        return index;
+    }
+
+    public PositionValueIndex positionValueIndex() {
+        PositionValueIndex index = positionValueIndex;
+        if (index == null) {
+            index = new PositionValueIndex(table());
+            positionValueIndex = index;
+        }
+
+        return index;
+    }
+
+    public TrigramIndex trigramIndex() {
+        TrigramIndex index = trigramIndex;
+        if (index == null) {
+            index = new TrigramIndex(table());
+            trigramIndex = index;
+        }
+
+        return index;
+    }
+
+    public NationalityAggregates nationalityAggregates() {
+        NationalityAggregates aggregates = nationalityAggregates;
+        if (aggregates == null) {
+            aggregates = new NationalityAggregates(table());
+            nationalityAggregates = aggregates;
+        }
+
+        return aggregates;
+    }
+
+    public SortedRowIndex ageIndex() {
+        SortedRowIndex index = ageIndex;
+        if (index == null) {
+            PlayerTable current = table();
+            index = new SortedRowIndex(current.size(), current::age);
+            ageIndex = index;
+        }
+
+        return index;
+    }
+
+    public SortedRowIndex valueIndex() {
+        SortedRowIndex index = valueIndex;
+        if (index == null) {
+            PlayerTable current = table();
+            index = new SortedRowIndex(current.size(), current::valueEuro);
+            valueIndex = index;
+        }
+
+        return index;
+    }
+
+    public SortedRowIndex wageIndex() {
+        SortedRowIndex index = wageIndex;
+        if (index == null) {
+            PlayerTable current = table();
+            index = new SortedRowIndex(current.size(), current::wageEuro);
+            wageIndex = index;
+        }
+
+        return index;
+    }
+
+    public KdTree featureTree() {
+        KdTree tree = featureTree;
+        if (tree == null) {
+            tree = new KdTree(new PlayerFeatures(table()));
+            featureTree = tree;
+        }
+
+        return tree;
+    }
+}
@@ -0,0 +1,232 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class PlayerParser {
+    private static final char PLAYER_DELIMITER = ';';
+    private static final char POSITIONS_DELIMITER = ',';
+    private static final char DATE_DELIMITER = '/';
+    private static final char DECIMAL_POINT = '.';
+    private static final char MAX_ASCII = 0x7F;
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final Foot[] FEET = Foot.values();
+    private static final int POSITIONS_COUNT = Position.values().length;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final Position[] positions;
+
+    private char[] chars;
+    private int end;
+    private int tokenStart;
+    private int tokenEnd;
+
+    public PlayerParser() {
+        this.positions = new Position[POSITIONS_COUNT];
+    }
+
+    public Player parse(char[] line, int start, int end) {
+        if (line == null) {
+            throw new IllegalArgumentException("Line is null.");
+        }
+
+        this.chars = line;
+        this.end = end;
+        this.tokenEnd = start - 1;
+
+        return new Player(
+                nextString(),
+                nextString(),
+                nextDate(),
+                (int) nextLong(),
+                nextDouble(),
+                nextDouble(),
+                nextPositions(),
+                nextString(),
+                (int) nextLong(),
+                (int) nextLong(),
+                nextLong(),
+                nextLong(),
+                nextFoot()
+        );
+    }
+
+    public static Position decodePosition(char[] chars, int start, int end) {
+        int key = 0;
+        for (int i = start; i < end && key >= 0; i++) {
+            key = chars[i] > MAX_ASCII ? -1 : key << Byte.SIZE | chars[i];
+        }
+
+        Position position = switch (end - start) {
+            case 2 -> switch (key) {
+                case 'S' << 8 | 'T' -> Position.ST;
+                case 'L' << 8 | 'M' -> Position.LM;
+                case 'C' << 8 | 'F' -> Position.CF;
+                case 'G' << 8 | 'K' -> Position.GK;
+                case 'R' << 8 | 'W' -> Position.RW;
+                case 'C' << 8 | 'M' -> Position.CM;
+                case 'L' << 8 | 'W' -> Position.LW;
+                case 'R' << 8 | 'B' -> Position.RB;
+                case 'L' << 8 | 'B' -> Position.LB;
+                case 'R' << 8 | 'M' -> Position.RM;
+                case 'C' << 8 | 'B' -> Position.CB;
+                default -> null;
+            };
+            case 3 -> switch (key) {
+                case 'C' << 16 | 'D' << 8 | 'M' -> Position.CDM;
+                case 'C' << 16 | 'A' << 8 | 'M' -> Position.CAM;
+                case 'L' << 16 | 'W' << 8 | 'B' -> Position.LWB;
+                case 'R' << 16 | 'W' << 8 | 'B' -> Position.RWB;
+                default -> null;
+            };
+            default -> null;
+        };
+
+        if (position == null) {
+            throw new IllegalArgumentException("Unknown position " + new String(chars, start, end - start) + ".");
+        }
+
+        return position;
+    }
+
+    private void nextToken() {
+        if (tokenEnd >= end) {
+            throw new IllegalArgumentException("Line has too few fields.");
+        }
+
+        tokenStart = tokenEnd + 1;
+        tokenEnd = tokenStart;
+        while (tokenEnd < end && chars[tokenEnd] != PLAYER_DELIMITER) {
+            tokenEnd++;
+        }
+    }
+
+    private String nextString() {
+        nextToken();
+
+        return new String(chars, tokenStart, tokenEnd - tokenStart);
+    }
+
+    private long nextLong() {
+        nextToken();
+
+        return parseLong(tokenStart, tokenEnd);
+    }
+
+    private double nextDouble() {
+        nextToken();
+
+        int point = tokenStart;
+        while (point < tokenEnd && chars[point] != DECIMAL_POINT) {
+            point++;
+        }
+
+        if (point == tokenEnd) {
+            return parseLong(tokenStart, tokenEnd);
+        }
+
+        int fractionDigits = tokenEnd - point - 1;
+        if (point - tokenStart + fractionDigits <= MAX_EXACT_DIGITS) {
+            long mantissa = parseLong(tokenStart, point) * (long) POWERS_OF_TEN[fractionDigits] +
+                    (fractionDigits == 0 ? 0 : parseLong(point + 1, tokenEnd));
+
+            return mantissa / POWERS_OF_TEN[fractionDigits];
+        }
+
+        return Double.parseDouble(new String(chars, tokenStart, tokenEnd - tokenStart));
+    }
+
+    private LocalDate nextDate() {
+        nextToken();
+
+        int monthEnd = indexOf(DATE_DELIMITER, tokenStart, tokenEnd);
+        int dayEnd = indexOf(DATE_DELIMITER, monthEnd + 1, tokenEnd);
+
+        return LocalDate.of(
+                (int) parseLong(dayEnd + 1, tokenEnd),
+                (int) parseLong(tokenStart, monthEnd),
+                (int) parseLong(monthEnd + 1, dayEnd)
+        );
+    }
+
+    private List<Position> nextPositions() {
+        nextToken();
+
+        int count = 0;
+        for (int start = tokenStart; start <= tokenEnd; ) {
+            int positionEnd = start;
+            while (positionEnd < tokenEnd && chars[positionEnd] != POSITIONS_DELIMITER) {
+                positionEnd++;
+            }
+
+            if (count == positions.length) {
+                throw new IllegalArgumentException("Player has too many positions.");
+            }
+            positions[count++] = decodePosition(chars, start, positionEnd);
+            start = positionEnd + 1;
+        }
+
+        return List.of(Arrays.copyOf(positions, count));
+    }
+
+    private Foot nextFoot() {
+        nextToken();
+
+        for (Foot foot : FEET) {
+            if (equalsIgnoreCase(foot.name(), tokenStart, tokenEnd)) {
+                return foot;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown foot " + new String(chars, tokenStart, tokenEnd - tokenStart) + ".");
+    }
+
+    private boolean equalsIgnoreCase(String value, int start, int end) {
+        if (value.length() != end - start) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.toUpperCase(chars[start + i]) != Character.toUpperCase(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int indexOf(char delimiter, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (chars[i] == delimiter) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed date " + new String(chars, tokenStart, tokenEnd - tokenStart) + ".");
+    }
+
+    private long parseLong(int start, int end) {
+        if (start >= end) {
+            throw new NumberFormatException("Empty number.");
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Malformed number " + new String(chars, start, end - start) + ".");
+            }
+
+            value = Math.addExact(Math.multiplyExact(value, 10), digit);
+        }
+
+        return value;
+    }
+}
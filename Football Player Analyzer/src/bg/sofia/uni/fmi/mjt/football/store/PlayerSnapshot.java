@@ -0,0 +1,330 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable version of the dataset. Rows {@code [0, indexedRowsCount())} are covered by the indexes of the batch the
+ * snapshot belongs to, rows appended after them are pending and are scanned, and removed rows are skipped.
+ */
+public class PlayerSnapshot {
+    public static final int NO_ROW = -1;
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final long version;
+    private final PlayerIndexes indexes;
+    private final Player[] rows;
+    private final int rowsCount;
+    private final int[] removedRows;
+    private final Set<String> nationalities;
+    private final Map<String, Player> highestPaidPlayers;
+
+    private volatile int[] pendingRows;
+    private volatile Map<Position, Set<Player>> groups;
+    private volatile Boolean keepsFeatureScale;
+    private volatile KdTree liveFeatureTree;
+
+    public PlayerSnapshot(long version, List<Player> players) {
+        this(version, new PlayerIndexes(players));
+    }
+
+    private PlayerSnapshot(long version, PlayerIndexes indexes) {
+        this(version, indexes, indexes.players().toArray(Player[]::new), indexes.size(), NO_ROWS, null, null);
+    }
+
+    PlayerSnapshot(long version, PlayerIndexes indexes, Player[] rows, int rowsCount, int[] removedRows,
+                   Set<String> nationalities, Map<String, Player> highestPaidPlayers) {
+        this.version = version;
+        this.indexes = indexes;
+        this.rows = rows;
+        this.rowsCount = rowsCount;
+        this.removedRows = removedRows;
+        this.nationalities = nationalities;
+        this.highestPaidPlayers = highestPaidPlayers;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public PlayerIndexes indexes() {
+        return indexes;
+    }
+
+    public int size() {
+        return rowsCount - removedRows.length;
+    }
+
+    public int rowsCount() {
+        return rowsCount;
+    }
+
+    public int indexedRowsCount() {
+        return indexes.size();
+    }
+
+    public Player player(int row) {
+        Objects.checkIndex(row, rowsCount);
+
+        return rows[row];
+    }
+
+    public boolean isRemoved(int row) {
+        return Arrays.binarySearch(removedRows, row) >= 0;
+    }
+
+    public boolean hasPendingRows() {
+        return rowsCount > indexes.size() || removedRows.length > 0;
+    }
+
+    public List<Player> players() {
+        if (!hasPendingRows()) {
+            return indexes.players();
+        }
+
+        return new RowListView<>(index -> rows[rowOf(index)], size());
+    }
+
+    public Set<Player> players(BitSet rowSet) {
+        Set<Player> selected = HashSet.newHashSet(rowSet.cardinality());
+        for (int row = rowSet.nextSetBit(0); row >= 0; row = rowSet.nextSetBit(row + 1)) {
+            selected.add(rows[row]);
+        }
+
+        return selected;
+    }
+
+    /**
+     * Turns the provided rows matched through the indexes into the live rows: removed rows are cleared and the pending
+     * rows whose players match {@code filter} are added. The provided set is modified and returned.
+     */
+    public BitSet liveRows(BitSet indexedRows, Predicate<Player> filter) {
+        for (int row : removedRows) {
+            indexedRows.clear(row);
+        }
+
+        for (int row : pendingRows()) {
+            if (filter.test(rows[row])) {
+                indexedRows.set(row);
+            }
+        }
+
+        return indexedRows;
+    }
+
+    public Set<String> nationalities() {
+        return nationalities == null ? indexes.nationalityAggregates().nationalities() : nationalities;
+    }
+
+    public Optional<Player> highestPaidPlayer(String nationality) {
+        if (highestPaidPlayers != null) {
+            return Optional.ofNullable(highestPaidPlayers.get(nationality));
+        }
+
+        NationalityAggregates aggregates = indexes.nationalityAggregates();
+        int code = aggregates.nationalityOf(nationality);
+        if (code == StringDictionary.MISSING_CODE) {
+            return Optional.empty();
+        }
+
+        return Optional.of(rows[aggregates.highestPaid(code)]);
+    }
+
+    public Map<Position, Set<Player>> groups() {
+        if (!hasPendingRows()) {
+            return indexes.positionIndex().groups();
+        }
+
+        Map<Position, Set<Player>> current = groups;
+        if (current == null) {
+            current = liveGroups();
+            groups = current;
+        }
+
+        return current;
+    }
+
+    public int topProspect(Position position, long budget) {
+        int topProspect = indexes.positionValueIndex().topProspect(position, budget, this::isRemoved);
+
+        for (int row : pendingRows()) {
+            Player player = rows[row];
+            if (player.positions().contains(position) && player.valueEuro() <= budget &&
+                    (topProspect == NO_ROW || isMoreProspective(player, rows[topProspect]))) {
+                topProspect = row;
+            }
+        }
+
+        return topProspect;
+    }
+
+    public int[] rowsContaining(String keyword) {
+        int[] indexedRows = indexes.trigramIndex().rowsContaining(keyword);
+        if (!hasPendingRows()) {
+            return indexedRows;
+        }
+
+        return IntStream.concat(
+                Arrays.stream(indexedRows).filter(row -> !isRemoved(row)),
+                Arrays.stream(pendingRows()).filter(row -> rows[row].fullName().contains(keyword))
+        ).toArray();
+    }
+
+    public List<Player> nearest(Player player, int k) {
+        KdTree tree = indexes.featureTree();
+        if (!hasPendingRows() || k == 0) {
+            return playersOf(tree.nearest(tree.features().featuresOf(player), k));
+        }
+
+        PlayerFeatures features = tree.features();
+        if (!keepsFeatureScale(features)) {
+            KdTree liveTree = liveFeatureTree();
+            List<Player> livePlayers = players();
+
+            return Arrays.stream(liveTree.nearest(liveTree.features().featuresOf(player), k))
+                    .mapToObj(livePlayers::get)
+                    .toList();
+        }
+
+        double[] point = features.featuresOf(player);
+        int[] indexedNearest = tree.nearest(point, k, this::isRemoved);
+        int[] pending = pendingRows();
+
+        int[] candidates = Arrays.copyOf(indexedNearest, indexedNearest.length + pending.length);
+        double[] distances = new double[candidates.length];
+        for (int i = 0; i < indexedNearest.length; i++) {
+            distances[i] = features.squaredDistance(indexedNearest[i], point);
+        }
+
+        int count = indexedNearest.length;
+        double bound = count == k ? distances[count - 1] : Double.POSITIVE_INFINITY;
+        for (int row : pending) {
+            double distance = PlayerFeatures.squaredDistance(features.featuresOf(rows[row]), point);
+            if (distance <= bound) {
+                candidates[count] = row;
+                distances[count++] = distance;
+            }
+        }
+
+        return IntStream.range(0, count)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> distances[i]).thenComparingInt(i -> candidates[i]))
+                .limit(k)
+                .map(i -> rows[candidates[i]])
+                .toList();
+    }
+
+    private List<Player> playersOf(int[] rowList) {
+        return Arrays.stream(rowList)
+                .mapToObj(row -> rows[row])
+                .toList();
+    }
+
+    private int rowOf(int index) {
+        int low = 0;
+        int high = removedRows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (removedRows[middle] - middle <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return index + low;
+    }
+
+    private int[] pendingRows() {
+        int[] current = pendingRows;
+        if (current == null) {
+            current = IntStream.range(indexes.size(), rowsCount)
+                    .filter(row -> !isRemoved(row))
+                    .toArray();
+            pendingRows = current;
+        }
+
+        return current;
+    }
+
+    private List<Player> pendingPlayers() {
+        return playersOf(pendingRows());
+    }
+
+    private List<Player> removedIndexedPlayers() {
+        return playersOf(Arrays.stream(removedRows)
+                .filter(row -> row < indexes.size())
+                .toArray());
+    }
+
+    /**
+     * Returns whether the live players are scaled exactly like the indexed ones. Otherwise the feature tree of the
+     * batch no longer applies and the snapshot builds its own, so the batch should be rebuilt soon.
+     */
+    private boolean keepsFeatureScale(PlayerFeatures features) {
+        Boolean current = keepsFeatureScale;
+        if (current == null) {
+            current = features.keepsScale(removedIndexedPlayers(), pendingPlayers());
+            keepsFeatureScale = current;
+        }
+
+        return current;
+    }
+
+    boolean hasOutgrownFeatureTree() {
+        return Boolean.FALSE.equals(keepsFeatureScale);
+    }
+
+    private KdTree liveFeatureTree() {
+        KdTree tree = liveFeatureTree;
+        if (tree == null) {
+            tree = new KdTree(new PlayerFeatures(new PlayerTable(players())));
+            liveFeatureTree = tree;
+        }
+
+        return tree;
+    }
+
+    private Map<Position, Set<Player>> liveGroups() {
+        Map<Position, Set<Player>> indexedGroups = indexes.positionIndex().groups();
+        Set<Player> removedPlayers = new HashSet<>(removedIndexedPlayers());
+
+        Map<Position, Set<Player>> pendingGroups = new EnumMap<>(Position.class);
+        for (Player player : pendingPlayers()) {
+            for (Position position : player.positions()) {
+                pendingGroups.computeIfAbsent(position, ignored -> new HashSet<>()).add(player);
+            }
+        }
+
+        Map<Position, Set<Player>> liveGroups = new EnumMap<>(Position.class);
+        for (Position position : Position.values()) {
+            Set<Player> group = new PlayerGroupView(indexedGroups.getOrDefault(position, Set.of()), removedPlayers,
+                    pendingGroups.getOrDefault(position, Set.of()));
+            if (!group.isEmpty()) {
+                liveGroups.put(position, group);
+            }
+        }
+
+        return Collections.unmodifiableMap(liveGroups);
+    }
+
+    private static boolean isMoreProspective(Player player, Player other) {
+        return PlayerTable.isMoreProspective(player.overallRating(), player.potential(), player.age(),
+                other.overallRating(), other.potential(), other.age());
+    }
+}
@@ -0,0 +1,139 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PlayerTable {
+    private static final Foot[] FEET = Foot.values();
+
+    private final List<Player> players;
+    private final StringDictionary nationalities;
+
+    private final int[] overallRatings;
+    private final int[] potentials;
+    private final int[] ages;
+    private final long[] valuesEuro;
+    private final long[] wagesEuro;
+    private final short[] positionMasks;
+    private final byte[] feet;
+    private final int[] nationalityCodes;
+
+    public PlayerTable(List<Player> players) {
+        if (players == null) {
+            throw new IllegalArgumentException("Players are null.");
+        }
+
+        this.players = List.copyOf(players);
+        this.nationalities = new StringDictionary();
+
+        int size = this.players.size();
+        this.overallRatings = new int[size];
+        this.potentials = new int[size];
+        this.ages = new int[size];
+        this.valuesEuro = new long[size];
+        this.wagesEuro = new long[size];
+        this.positionMasks = new short[size];
+        this.feet = new byte[size];
+        this.nationalityCodes = new int[size];
+
+        for (int row = 0; row < size; row++) {
+            Player player = this.players.get(row);
+
+            overallRatings[row] = player.overallRating();
+            potentials[row] = player.potential();
+            ages[row] = player.age();
+            valuesEuro[row] = player.valueEuro();
+            wagesEuro[row] = player.wageEuro();
+            positionMasks[row] = positionMask(player.positions());
+            feet[row] = (byte) player.preferredFoot().ordinal();
+            nationalityCodes[row] = nationalities.encode(player.nationality());
+        }
+    }
+
+    public static short positionBit(Position position) {
+        return (short) (1 << position.ordinal());
+    }
+
+    public static short positionMask(Collection<Position> positions) {
+        short mask = 0;
+        for (Position position : positions) {
+            mask |= positionBit(position);
+        }
+
+        return mask;
+    }
+
+    public static boolean isMoreProspective(int overallRating, int potential, int age,
+                                            int otherOverallRating, int otherPotential, int otherAge) {
+        return (long) (overallRating + potential) * otherAge > (long) (otherOverallRating + otherPotential) * age;
+    }
+
+    public int size() {
+        return overallRatings.length;
+    }
+
+    public List<Player> players() {
+        return players;
+    }
+
+    public Player player(int row) {
+        return players.get(row);
+    }
+
+    public Set<Player> players(BitSet rows) {
+        Set<Player> selected = HashSet.newHashSet(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            selected.add(players.get(row));
+        }
+
+        return selected;
+    }
+
+    public StringDictionary nationalities() {
+        return nationalities;
+    }
+
+    public int overallRating(int row) {
+        return overallRatings[row];
+    }
+
+    public int potential(int row) {
+        return potentials[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    public long valueEuro(int row) {
+        return valuesEuro[row];
+    }
+
+    public long wageEuro(int row) {
+        return wagesEuro[row];
+    }
+
+    public short positionMask(int row) {
+        return positionMasks[row];
+    }
+
+    public Foot foot(int row) {
+        return FEET[feet[row]];
+    }
+
+    public int nationality(int row) {
+        return nationalityCodes[row];
+    }
+
+    public boolean isMoreProspective(int row, int otherRow) {
+        return isMoreProspective(overallRatings[row], potentials[row], ages[row],
+                overallRatings[otherRow], potentials[otherRow], ages[otherRow]);
+    }
+}
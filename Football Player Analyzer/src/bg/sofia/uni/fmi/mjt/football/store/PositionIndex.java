@@ -0,0 +1,108 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+public class PositionIndex {
+    private static final Position[] POSITIONS = Position.values();
+    private static final Foot[] FEET = Foot.values();
+
+    private final PlayerTable table;
+    private final BitSet[] playersPerPosition;
+    private final BitSet[] playersPerFoot;
+    private volatile Map<Position, Set<Player>> groups;
+
+    public PositionIndex(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        this.table = table;
+        this.playersPerPosition = emptyPostings(POSITIONS.length, table.size());
+        this.playersPerFoot = emptyPostings(FEET.length, table.size());
+
+        for (int row = 0; row < table.size(); row++) {
+            int mask = table.positionMask(row);
+            for (int position = 0; mask != 0; position++, mask >>>= 1) {
+                if ((mask & 1) != 0) {
+                    playersPerPosition[position].set(row);
+                }
+            }
+
+            playersPerFoot[table.foot(row).ordinal()].set(row);
+        }
+    }
+
+    public BitSet playersOf(Position position) {
+        return (BitSet) playersPerPosition[position.ordinal()].clone();
+    }
+
+    public BitSet playersOf(Collection<Position> positions) {
+        BitSet players = new BitSet(table.size());
+        for (Position position : positions) {
+            players.or(playersPerPosition[position.ordinal()]);
+        }
+
+        return players;
+    }
+
+    public BitSet playersOf(Foot foot) {
+        return (BitSet) playersPerFoot[foot.ordinal()].clone();
+    }
+
+    public int countOf(Position position) {
+        return playersPerPosition[position.ordinal()].cardinality();
+    }
+
+    public int countOf(Foot foot) {
+        return playersPerFoot[foot.ordinal()].cardinality();
+    }
+
+    public void retainPlayersOf(BitSet rows, Collection<Position> positions) {
+        rows.and(playersOf(positions));
+    }
+
+    public void retainPlayersOf(BitSet rows, Foot foot) {
+        rows.and(playersPerFoot[foot.ordinal()]);
+    }
+
+    public Map<Position, Set<Player>> groups() {
+        Map<Position, Set<Player>> current = groups;
+        if (current == null) {
+            current = groupByPosition();
+            groups = current;
+        }
+
+        return current;
+    }
+
+    private Map<Position, Set<Player>> groupByPosition() {
+        Map<Position, Set<Player>> groupsPerPosition = new EnumMap<>(Position.class);
+
+        for (Position position : POSITIONS) {
+            BitSet players = playersPerPosition[position.ordinal()];
+            if (!players.isEmpty()) {
+                groupsPerPosition.put(position, Collections.unmodifiableSet(table.players(players)));
+            }
+        }
+
+        return Collections.unmodifiableMap(groupsPerPosition);
+    }
+
+    private static BitSet[] emptyPostings(int count, int capacity) {
+        BitSet[] postings = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            postings[i] = new BitSet(capacity);
+        }
+
+        return postings;
+    }
+}
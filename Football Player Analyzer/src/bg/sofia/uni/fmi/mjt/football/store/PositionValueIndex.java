@@ -0,0 +1,145 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Position;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public class PositionValueIndex {
+    public static final int NO_ROW = -1;
+
+    private static final int POSITIONS_COUNT = Position.values().length;
+
+    private final PlayerTable table;
+    private final long[][] valuesPerPosition;
+    private final int[][] topProspectTreePerPosition;
+
+    public PositionValueIndex(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        int[] rowsByValue = IntStream.range(0, table.size())
+                .boxed()
+                .sorted(Comparator.comparingLong(table::valueEuro))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int[] sizes = new int[POSITIONS_COUNT];
+        for (int row = 0; row < table.size(); row++) {
+            forEachPosition(table.positionMask(row), position -> sizes[position]++);
+        }
+
+        int[][] rowsByValuePerPosition = new int[POSITIONS_COUNT][];
+        for (int position = 0; position < POSITIONS_COUNT; position++) {
+            rowsByValuePerPosition[position] = new int[sizes[position]];
+        }
+
+        Arrays.fill(sizes, 0);
+        for (int row : rowsByValue) {
+            forEachPosition(table.positionMask(row),
+                    position -> rowsByValuePerPosition[position][sizes[position]++] = row);
+        }
+
+        this.table = table;
+        this.valuesPerPosition = new long[POSITIONS_COUNT][];
+        this.topProspectTreePerPosition = new int[POSITIONS_COUNT][];
+        for (int position = 0; position < POSITIONS_COUNT; position++) {
+            int[] rows = rowsByValuePerPosition[position];
+            valuesPerPosition[position] = Arrays.stream(rows).mapToLong(table::valueEuro).toArray();
+            topProspectTreePerPosition[position] = topProspectTree(rows);
+        }
+    }
+
+    public int topProspect(Position position, long budget) {
+        return topProspect(position, budget, row -> false);
+    }
+
+    /**
+     * Returns the top prospect row that can play in the provided position and costs at most the provided budget,
+     * skipping the rows matched by {@code isExcluded}. Only the excluded rows that would otherwise win are visited.
+     */
+    public int topProspect(Position position, long budget, IntPredicate isExcluded) {
+        int[] tree = topProspectTreePerPosition[position.ordinal()];
+        int leaves = tree.length / 2;
+
+        int best = NO_ROW;
+        for (int from = leaves, to = leaves + countInBudget(position, budget); from < to; from >>>= 1, to >>>= 1) {
+            if ((from & 1) != 0) {
+                best = moreProspective(best, topProspectOf(tree, from++, isExcluded));
+            }
+
+            if ((to & 1) != 0) {
+                best = moreProspective(best, topProspectOf(tree, --to, isExcluded));
+            }
+        }
+
+        return best;
+    }
+
+    public int countInBudget(Position position, long budget) {
+        long[] values = valuesPerPosition[position.ordinal()];
+
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] <= budget) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static void forEachPosition(int mask, IntConsumer action) {
+        for (int position = 0; mask != 0; position++, mask >>>= 1) {
+            if ((mask & 1) != 0) {
+                action.accept(position);
+            }
+        }
+    }
+
+    private int[] topProspectTree(int[] rows) {
+        int[] tree = new int[2 * rows.length];
+        System.arraycopy(rows, 0, tree, rows.length, rows.length);
+
+        for (int node = rows.length - 1; node > 0; node--) {
+            tree[node] = moreProspective(tree[2 * node], tree[2 * node + 1]);
+        }
+
+        return tree;
+    }
+
+    private int topProspectOf(int[] tree, int node, IntPredicate isExcluded) {
+        if (!isExcluded.test(tree[node])) {
+            return tree[node];
+        }
+
+        if (node >= tree.length / 2) {
+            return NO_ROW;
+        }
+
+        int left = topProspectOf(tree, 2 * node, isExcluded);
+        int right = topProspectOf(tree, 2 * node + 1, isExcluded);
+
+        return moreProspective(left, right);
+    }
+
+    private int moreProspective(int row, int otherRow) {
+        if (row == NO_ROW || otherRow == NO_ROW) {
+            return Math.max(row, otherRow);
+        }
+
+        if (table.isMoreProspective(row, otherRow)) {
+            return row;
+        }
+
+        return table.isMoreProspective(otherRow, row) ? otherRow : Math.min(row, otherRow);
+    }
+}
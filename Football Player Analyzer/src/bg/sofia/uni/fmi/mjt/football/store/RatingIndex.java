@@ -0,0 +1,55 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.BitSet;
+
+public class RatingIndex {
+    private final PlayerTable table;
+    private final BitSet[] playersPerRating;
+    private final int[] playersCountUpToRating;
+
+    public RatingIndex(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        int maxRating = 0;
+        for (int row = 0; row < table.size(); row++) {
+            if (table.overallRating(row) < 0) {
+                throw new IllegalArgumentException("Overall rating is negative.");
+            }
+
+            maxRating = Math.max(maxRating, table.overallRating(row));
+        }
+
+        this.table = table;
+        this.playersPerRating = new BitSet[table.size() == 0 ? 0 : maxRating + 1];
+        for (int rating = 0; rating < playersPerRating.length; rating++) {
+            playersPerRating[rating] = new BitSet();
+        }
+
+        for (int row = 0; row < table.size(); row++) {
+            playersPerRating[table.overallRating(row)].set(row);
+        }
+
+        this.playersCountUpToRating = new int[playersPerRating.length + 1];
+        for (int rating = 0; rating < playersPerRating.length; rating++) {
+            playersCountUpToRating[rating + 1] = playersCountUpToRating[rating] + playersPerRating[rating].cardinality();
+        }
+    }
+
+    public BitSet playersRatedBetween(int fromRating, int toRating) {
+        BitSet players = new BitSet(table.size());
+        for (int rating = Math.max(0, fromRating); rating <= toRating && rating < playersPerRating.length; rating++) {
+            players.or(playersPerRating[rating]);
+        }
+
+        return players;
+    }
+
+    public int countRatedBetween(int fromRating, int toRating) {
+        int from = Math.clamp(fromRating, 0, playersPerRating.length);
+        int to = Math.clamp(toRating + 1L, from, playersPerRating.length);
+
+        return playersCountUpToRating[to] - playersCountUpToRating[from];
+    }
+}
@@ -0,0 +1,28 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+class RowListView<T> extends AbstractList<T> implements RandomAccess {
+    private final IntFunction<T> materializer;
+    private final int size;
+
+    RowListView(IntFunction<T> materializer, int size) {
+        this.materializer = materializer;
+        this.size = size;
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+
+        return materializer.apply(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntToLongFunction;
+
+public class SortedRowIndex {
+    private final long[] sortedKeys;
+    private final int[] sortedRows;
+
+    public SortedRowIndex(int size, IntToLongFunction keyOfRow) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size is negative.");
+        }
+
+        if (keyOfRow == null) {
+            throw new IllegalArgumentException("Key function is null.");
+        }
+
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            keys[row] = keyOfRow.applyAsLong(row);
+        }
+
+        this.sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+
+        this.sortedRows = new int[size];
+        int[] placedPerKey = new int[size];
+        for (int row = 0; row < size; row++) {
+            int first = lowerBound(sortedKeys, keys[row]);
+            sortedRows[first + placedPerKey[first]++] = row;
+        }
+    }
+
+    public int size() {
+        return sortedRows.length;
+    }
+
+    public int countBetween(long fromKey, long toKey) {
+        return Math.max(0, upperBound(sortedKeys, toKey) - lowerBound(sortedKeys, fromKey));
+    }
+
+    public BitSet rowsBetween(long fromKey, long toKey) {
+        BitSet rows = new BitSet(sortedRows.length);
+
+        int end = upperBound(sortedKeys, toKey);
+        for (int i = lowerBound(sortedKeys, fromKey); i < end; i++) {
+            rows.set(sortedRows[i]);
+        }
+
+        return rows;
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static int upperBound(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,55 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StringDictionary {
+    public static final int MISSING_CODE = -1;
+
+    private final Map<String, Integer> codes;
+    private final List<String> values;
+
+    public StringDictionary() {
+        this.codes = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+    public int encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value is null.");
+        }
+
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+
+        values.add(value);
+        codes.put(value, values.size() - 1);
+
+        return values.size() - 1;
+    }
+
+    public int codeOf(String value) {
+        return codes.getOrDefault(value, MISSING_CODE);
+    }
+
+    public String decode(int code) {
+        if (code < 0 || code >= values.size()) {
+            throw new IllegalArgumentException("Code is not present in the dictionary.");
+        }
+
+        return values.get(code);
+    }
+
+    public List<String> values() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
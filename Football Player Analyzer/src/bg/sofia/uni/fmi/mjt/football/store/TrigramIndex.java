@@ -0,0 +1,131 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class TrigramIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int[] NO_ROWS = new int[0];
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    private final PlayerTable table;
+    private final Map<Long, int[]> rowsPerTrigram;
+
+    public TrigramIndex(PlayerTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table is null.");
+        }
+
+        Map<Long, Posting> postings = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            String fullName = table.player(row).fullName();
+            for (int i = 0; i + GRAM_LENGTH <= fullName.length(); i++) {
+                postings.computeIfAbsent(trigram(fullName, i), trigram -> new Posting()).add(row);
+            }
+        }
+
+        this.table = table;
+        this.rowsPerTrigram = HashMap.newHashMap(postings.size());
+        postings.forEach((trigram, posting) -> rowsPerTrigram.put(trigram, posting.toArray()));
+    }
+
+    public int[] rowsContaining(String keyword) {
+        if (keyword == null) {
+            throw new IllegalArgumentException("Keyword is null.");
+        }
+
+        IntStream candidates = keyword.length() < GRAM_LENGTH
+                ? IntStream.range(0, table.size())
+                : Arrays.stream(candidatesOf(keyword));
+
+        return candidates
+                .filter(row -> table.player(row).fullName().contains(keyword))
+                .toArray();
+    }
+
+    private int[] candidatesOf(String keyword) {
+        int[][] postings = new int[keyword.length() - GRAM_LENGTH + 1][];
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = rowsPerTrigram.getOrDefault(trigram(keyword, i), NO_ROWS);
+        }
+        Arrays.sort(postings, Comparator.comparingInt(posting -> posting.length));
+
+        int[] candidates = postings[0];
+        for (int i = 1; i < postings.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, postings[i]);
+        }
+
+        return candidates;
+    }
+
+    private static int[] intersect(int[] rows, int[] otherRows) {
+        int[] result = new int[rows.length];
+        int size = 0;
+
+        int j = 0;
+        for (int row : rows) {
+            j = lowerBound(otherRows, j, row);
+            if (j == otherRows.length) {
+                break;
+            }
+
+            if (otherRows[j] == row) {
+                result[size++] = row;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int lowerBound(int[] rows, int from, int row) {
+        int step = 1;
+        int high = from;
+        while (high < rows.length && rows[high] < row) {
+            from = high + 1;
+            high += step;
+            step <<= 1;
+        }
+
+        high = Math.min(high, rows.length);
+        while (from < high) {
+            int middle = (from + high) >>> 1;
+            if (rows[middle] < row) {
+                from = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return from;
+    }
+
+    private static long trigram(String value, int start) {
+        return (long) value.charAt(start) << (2 * Character.SIZE) |
+                (long) value.charAt(start + 1) << Character.SIZE |
+                value.charAt(start + 2);
+    }
+
+    private static final class Posting {
+        private int[] rows = new int[INITIAL_POSTING_CAPACITY];
+        private int size = 0;
+
+        private void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package bg.sofia.uni.fmi.mjt.football;
 
+import bg.sofia.uni.fmi.mjt.football.query.PlayerPredicate;
+import bg.sofia.uni.fmi.mjt.football.query.PlayerQuery;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -237,6 +246,16 @@ public class FootballPlayerAnalyzerTest {
         );
     }
 
+    @Test
+    void testGetTopProspectPlayerForPositionInBudgetPrefersProspectOverPotential() {
+        assertEquals(
+                kolev,
+                analyzer.getTopProspectPlayerForPositionInBudget(Position.ST, 20000000).get(),
+                "When called getTopProspectPlayerForPositionInBudget(...) with a younger player of lower potential, " +
+                        "method should return the player with the highest (rating + potential) / age."
+        );
+    }
+
     @Test
     void testGetSimilarPlayersWithNull() {
         assertThrows(
@@ -325,4 +344,131 @@ public class FootballPlayerAnalyzerTest {
                         "method should return correct set of players."
         );
     }
+
+    @Test
+    void testGetPlayersByFullNameKeywordWithLongKeyword() {
+        assertEquals(
+                Set.of(berbatov),
+                analyzer.getPlayersByFullNameKeyword("Ivanov Ber"),
+                "When called getPlayersByFullNameKeyword(...) with a long keyword, " +
+                        "method should return correct set of players."
+        );
+    }
+
+    @Test
+    void testGetPlayersByFullNameKeywordWithScatteredKeywordTrigrams() {
+        assertTrue(
+                analyzer.getPlayersByFullNameKeyword("Lionel Messi").isEmpty(),
+                "When called getPlayersByFullNameKeyword(...) with a keyword whose parts are not adjacent in a name, " +
+                        "method should return empty set."
+        );
+    }
+
+    @Test
+    void testFromFileMatchesReader(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("players.csv");
+        Files.writeString(file, INPUT);
+
+        assertEquals(
+                analyzer.getAllPlayers(),
+                FootballPlayerAnalyzer.fromFile(file, new ForkJoinPool(2)).getAllPlayers(),
+                "When called fromFile(...), method should load the same players as the Reader constructor."
+        );
+    }
+
+    @Test
+    void testFromFileWithNullFile() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> FootballPlayerAnalyzer.fromFile(null),
+                "When called fromFile(...) with null file, method should throw IllegalArgumentException."
+        );
+    }
+
+    @Test
+    void testUpsertPlayerReplacesPlayerInAllQueries() {
+        FootballPlayerAnalyzer liveAnalyzer = new FootballPlayerAnalyzer(new StringReader(INPUT));
+        Player transferredKolev = Player.of(KOLEV_DATA.replace(";" + KOLEV_WAGE + ";", ";" + (BERBATOV_WAGE + 1) + ";")
+                .replace(";ST;", ";CM;"));
+
+        liveAnalyzer.upsertPlayer(transferredKolev);
+
+        assertEquals(4, liveAnalyzer.getAllPlayers().size(),
+                "When called upsertPlayer(...) with an existing player, method should replace the player.");
+        assertEquals(transferredKolev, liveAnalyzer.getHighestPaidPlayerByNationality(KOLEV_NATIONALITY),
+                "When called upsertPlayer(...), method should update the highest paid player by nationality.");
+        assertEquals(Set.of(transferredKolev), liveAnalyzer.groupByPosition().get(Position.CM),
+                "When called upsertPlayer(...), method should update the position groups.");
+        assertEquals(Set.of(berbatov, messi), liveAnalyzer.groupByPosition().get(Position.ST),
+                "When called upsertPlayer(...), method should remove the replaced player from its old groups.");
+    }
+
+    @Test
+    void testUpsertPlayerAddsNewPlayer() {
+        FootballPlayerAnalyzer liveAnalyzer = new FootballPlayerAnalyzer(new StringReader(EMPTY_INPUT));
+
+        liveAnalyzer.upsertPlayer(pogba);
+
+        assertEquals(List.of(pogba), liveAnalyzer.getAllPlayers(),
+                "When called upsertPlayer(...) with a new player, method should add the player.");
+        assertEquals(Set.of(POGBA_NATIONALITY), liveAnalyzer.getAllNationalities(),
+                "When called upsertPlayer(...) with a new player, method should add the player's nationality.");
+        assertEquals(Set.of(pogba), liveAnalyzer.getPlayersByFullNameKeyword("Pogba"),
+                "When called upsertPlayer(...) with a new player, method should make the player searchable.");
+    }
+
+    @Test
+    void testRemovePlayer() {
+        FootballPlayerAnalyzer liveAnalyzer = new FootballPlayerAnalyzer(new StringReader(INPUT));
+        List<Player> playersBeforeRemoval = liveAnalyzer.getAllPlayers();
+
+        assertTrue(liveAnalyzer.removePlayer(messi),
+                "When called removePlayer(...) with an existing player, method should return true.");
+        assertFalse(liveAnalyzer.removePlayer(messi),
+                "When called removePlayer(...) with a missing player, method should return false.");
+        assertEquals(Set.of(BERBATOV_NATIONALITY, POGBA_NATIONALITY), liveAnalyzer.getAllNationalities(),
+                "When called removePlayer(...), method should remove nationalities without players.");
+        assertThrows(NoSuchElementException.class,
+                () -> liveAnalyzer.getHighestPaidPlayerByNationality(MESSI_NATIONALITY),
+                "When called removePlayer(...), method should remove the player from the highest paid players.");
+        assertEquals(4, playersBeforeRemoval.size(),
+                "When called removePlayer(...), method should not change previously returned results.");
+    }
+
+    @Test
+    void testUpsertPlayerWithNullPlayer() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> analyzer.upsertPlayer(null),
+                "When called upsertPlayer(...) with null player, method should throw IllegalArgumentException."
+        );
+    }
+
+    @Test
+    void testQuery() {
+        PlayerQuery query = PlayerQuery.where(PlayerPredicate.position(Position.ST)
+                        .and(PlayerPredicate.nationality(BERBATOV_NATIONALITY).or(PlayerPredicate.foot(Foot.LEFT))))
+                .orderBy(Comparator.comparingInt(Player::overallRating).reversed())
+                .limit(2);
+
+        assertEquals(List.of(messi, berbatov), analyzer.query(query),
+                "When called query(...), method should return the top matching players in the query's order.");
+    }
+
+    @Test
+    void testGetNearestPlayers() {
+        List<Player> nearestPlayers = analyzer.getNearestPlayers(berbatov, 2);
+
+        assertEquals(List.of(berbatov, messi), nearestPlayers,
+                "When called getNearestPlayers(...), method should return the nearest players, nearest first.");
+    }
+
+    @Test
+    void testGetNearestPlayersWithNegativeK() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> analyzer.getNearestPlayers(berbatov, -1),
+                "When called getNearestPlayers(...) with negative k, method should throw IllegalArgumentException."
+        );
+    }
 }
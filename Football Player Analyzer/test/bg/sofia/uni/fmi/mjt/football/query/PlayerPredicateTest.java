@@ -0,0 +1,73 @@
+package bg.sofia.uni.fmi.mjt.football.query;
+
+import bg.sofia.uni.fmi.mjt.football.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PlayerPredicateTest {
+    @Test
+    void testAllWithNoOperands() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerPredicate.All(List.of()),
+                "When created All with no operands, constructor should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testAnyWithNullOperand() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PlayerPredicate.Any(Arrays.asList(PlayerPredicate.position(Position.ST), null)),
+                "When created Any with a null operand, constructor should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testAllOfWithNullOperand() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PlayerPredicate.allOf(PlayerPredicate.nationality("Bulgaria"), null),
+                "When called allOf(...) with a null operand, method should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testPlaysInWithNullPositions() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerPredicate.PlaysIn(null),
+                "When created PlaysIn with null positions, constructor should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testPlaysInWithNullPosition() {
+        assertThrows(IllegalArgumentException.class, () -> PlayerPredicate.position(Position.ST, null),
+                "When called position(...) with a null position, method should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testRecordsWithNullComponents() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerPredicate.Prefers(null),
+                "When created Prefers with null foot, constructor should throw IllegalArgumentException.");
+        assertThrows(IllegalArgumentException.class, () -> new PlayerPredicate.IsFrom(null),
+                "When created IsFrom with null nationality, constructor should throw IllegalArgumentException.");
+        assertThrows(IllegalArgumentException.class, () -> new PlayerPredicate.Between(null, 0, 1),
+                "When created Between with null field, constructor should throw IllegalArgumentException.");
+    }
+
+    @Test
+    void testRecordsCopyTheirOperands() {
+        Set<Position> positions = new HashSet<>(Set.of(Position.ST));
+        List<PlayerPredicate> operands = new ArrayList<>(List.of(PlayerPredicate.position(Position.CF)));
+
+        PlayerPredicate.PlaysIn playsIn = new PlayerPredicate.PlaysIn(positions);
+        PlayerPredicate.All all = new PlayerPredicate.All(operands);
+        positions.add(Position.GK);
+        operands.clear();
+
+        assertEquals(Set.of(Position.ST), playsIn.positions(),
+                "When the positions passed to PlaysIn change, the predicate should not change.");
+        assertEquals(List.of(PlayerPredicate.position(Position.CF)), all.operands(),
+                "When the operands passed to All change, the predicate should not change.");
+    }
+}
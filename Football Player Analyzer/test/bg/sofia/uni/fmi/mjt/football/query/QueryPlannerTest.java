@@ -0,0 +1,102 @@
+package bg.sofia.uni.fmi.mjt.football.query;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import bg.sofia.uni.fmi.mjt.football.store.PlayerSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QueryPlannerTest {
+    private static final int PLAYERS_COUNT = 3000;
+    private static final int QUERIES_COUNT = 500;
+    private static final int NATIONALITIES_COUNT = 20;
+    private static final Position[] POSITIONS = Position.values();
+
+    @Test
+    void testExecuteMatchesLinearScan() {
+        Random random = new Random(QUERIES_COUNT);
+        List<Player> players = randomPlayers(random);
+        QueryPlanner planner = new QueryPlanner(new PlayerSnapshot(0, players));
+
+        for (int i = 0; i < QUERIES_COUNT; i++) {
+            PlayerPredicate predicate = randomPredicate(random, 2);
+            PlayerQuery query = PlayerQuery.where(predicate);
+
+            if (random.nextBoolean()) {
+                query = query.orderBy(Comparator.comparingLong(Player::wageEuro).reversed());
+            }
+            query = query.limit(random.nextInt(50));
+
+            List<Player> expected = players.stream()
+                    .filter(predicate)
+                    .sorted(query.order().orElse((player, other) -> 0))
+                    .limit(query.limit())
+                    .toList();
+
+            assertEquals(expected, planner.execute(query),
+                    "When called execute(...) with " + predicate + ", method should return the same players " +
+                            "as a linear scan.");
+        }
+    }
+
+    @Test
+    void testExecuteWithNullQuery() {
+        QueryPlanner planner = new QueryPlanner(new PlayerSnapshot(0, List.of()));
+
+        assertThrows(IllegalArgumentException.class, () -> planner.execute(null),
+                "When called execute(...) with null query, method should throw IllegalArgumentException.");
+    }
+
+    private static PlayerPredicate randomPredicate(Random random, int depth) {
+        int kind = random.nextInt(depth > 0 ? 9 : 7);
+        int from = random.nextInt(100);
+
+        return switch (kind) {
+            case 0 -> PlayerPredicate.position(POSITIONS[random.nextInt(POSITIONS.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)]);
+            case 1 -> PlayerPredicate.foot(random.nextBoolean() ? Foot.LEFT : Foot.RIGHT);
+            case 2 -> PlayerPredicate.nationality("Nationality " + random.nextInt(NATIONALITIES_COUNT + 1));
+            case 3 -> PlayerPredicate.ratingBetween(from, from + random.nextInt(20) - 5);
+            case 4 -> PlayerPredicate.ageBetween(from / 3, from / 3 + random.nextInt(10));
+            case 5 -> PlayerPredicate.valueBetween(from * 10_000L, (from + random.nextInt(30)) * 10_000L);
+            case 6 -> PlayerPredicate.wageBetween(from * 1_000L, (from + random.nextInt(30)) * 1_000L);
+            case 7 -> PlayerPredicate.allOf(randomPredicate(random, depth - 1), randomPredicate(random, depth - 1),
+                    randomPredicate(random, depth - 1));
+            default -> randomPredicate(random, depth - 1).or(randomPredicate(random, depth - 1));
+        };
+    }
+
+    private static List<Player> randomPlayers(Random random) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_COUNT; i++) {
+            int age = 16 + random.nextInt(20);
+
+            players.add(new Player(
+                    "P. " + i,
+                    "Player " + i,
+                    LocalDate.of(2019 - age, 1, 1),
+                    age,
+                    180,
+                    75,
+                    List.of(POSITIONS[random.nextInt(POSITIONS.length)], POSITIONS[random.nextInt(POSITIONS.length)]),
+                    "Nationality " + random.nextInt(NATIONALITIES_COUNT),
+                    50 + random.nextInt(40),
+                    60 + random.nextInt(35),
+                    random.nextInt(100) * 10_000L,
+                    random.nextInt(100) * 1_000L,
+                    random.nextBoolean() ? Foot.LEFT : Foot.RIGHT
+            ));
+        }
+
+        return players;
+    }
+}
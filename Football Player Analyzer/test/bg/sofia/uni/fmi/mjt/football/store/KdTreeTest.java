@@ -0,0 +1,111 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KdTreeTest {
+    private static final int PLAYERS_COUNT = 3000;
+    private static final int QUERIES_COUNT = 200;
+    private static final Position[] POSITIONS = Position.values();
+
+    @Test
+    void testNearestMatchesLinearScan() {
+        Random random = new Random(PLAYERS_COUNT);
+        List<Player> players = randomPlayers(random);
+        KdTree tree = new KdTree(new PlayerFeatures(new PlayerTable(players)));
+
+        for (int i = 0; i < QUERIES_COUNT; i++) {
+            Player player = random.nextBoolean()
+                    ? players.get(random.nextInt(players.size()))
+                    : randomPlayer(random, PLAYERS_COUNT);
+            double[] point = tree.features().featuresOf(player);
+            int k = random.nextInt(30);
+
+            assertArrayEquals(nearestByScan(tree.features(), point, k), tree.nearest(point, k),
+                    "When called nearest(...) with k = " + k + ", method should return the same rows as a linear scan.");
+        }
+    }
+
+    @Test
+    void testNearestSkipsExcludedRows() {
+        Random random = new Random(QUERIES_COUNT);
+        List<Player> players = randomPlayers(random);
+        KdTree tree = new KdTree(new PlayerFeatures(new PlayerTable(players)));
+
+        for (int i = 0; i < QUERIES_COUNT; i++) {
+            double[] point = tree.features().featuresOf(randomPlayer(random, PLAYERS_COUNT));
+            int k = random.nextInt(30);
+            int divisor = 2 + random.nextInt(3);
+
+            assertArrayEquals(
+                    Arrays.stream(nearestByScan(tree.features(), point, PLAYERS_COUNT))
+                            .filter(row -> row % divisor != 0)
+                            .limit(k)
+                            .toArray(),
+                    tree.nearest(point, k, row -> row % divisor == 0),
+                    "When called nearest(...) with excluded rows, method should skip them in a linear scan."
+            );
+        }
+    }
+
+    @Test
+    void testNearestWithMoreNeighboursThanPlayers() {
+        List<Player> players = randomPlayers(new Random(QUERIES_COUNT)).subList(0, 5);
+        KdTree tree = new KdTree(new PlayerFeatures(new PlayerTable(players)));
+
+        assertEquals(5, tree.nearest(tree.features().featuresOf(players.getFirst()), 10).length,
+                "When called nearest(...) with k greater than the players count, method should return every row.");
+    }
+
+    private static int[] nearestByScan(PlayerFeatures features, double[] point, int k) {
+        return IntStream.range(0, features.size())
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(row -> features.squaredDistance(row, point))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static List<Player> randomPlayers(Random random) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_COUNT; i++) {
+            players.add(randomPlayer(random, i));
+        }
+
+        return players;
+    }
+
+    private static Player randomPlayer(Random random, int id) {
+        int age = 16 + random.nextInt(20);
+
+        return new Player(
+                "P. " + id,
+                "Player " + id,
+                LocalDate.of(2019 - age, 1, 1),
+                age,
+                165 + random.nextInt(8) * 5,
+                60 + random.nextInt(6) * 5,
+                List.of(POSITIONS[random.nextInt(POSITIONS.length)], POSITIONS[random.nextInt(POSITIONS.length)]),
+                "Nationality " + random.nextInt(10),
+                50 + random.nextInt(40),
+                60 + random.nextInt(35),
+                random.nextInt(40) * 25_000L,
+                random.nextInt(100) * 1_000L,
+                random.nextBoolean() ? Foot.LEFT : Foot.RIGHT
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LivePlayersTest {
+    private static final int PLAYERS_COUNT = 2000;
+    private static final int WRITES_COUNT = 4000;
+    private static final int WRITES_PER_CHECK = 50;
+    private static final Position[] POSITIONS = Position.values();
+
+    @Test
+    void testWritesMatchRebuiltSnapshot() {
+        Random random = new Random(WRITES_COUNT);
+        List<Player> expected = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_COUNT; i++) {
+            expected.add(randomPlayer(random, random.nextInt(PLAYERS_COUNT), false));
+        }
+
+        LivePlayers livePlayers = new LivePlayers(expected);
+        for (int write = 1; write <= WRITES_COUNT; write++) {
+            Player player = randomPlayer(random, random.nextInt(PLAYERS_COUNT * 5 / 4), random.nextInt(50) == 0);
+            boolean isRemoved = expected.removeIf(other -> isSamePlayer(player, other));
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(isRemoved, livePlayers.remove(player),
+                        "When called remove(...), method should return whether a player was removed.");
+            } else {
+                expected.add(player);
+                livePlayers.upsert(player);
+            }
+
+            if (write % WRITES_PER_CHECK == 0) {
+                assertSameSnapshots(new PlayerSnapshot(0, expected), livePlayers.snapshot(write), random);
+            }
+        }
+    }
+
+    private static void assertSameSnapshots(PlayerSnapshot expected, PlayerSnapshot actual, Random random) {
+        assertEquals(expected.players(), actual.players(),
+                "When players are written, players() should keep the order of a rebuilt snapshot.");
+        assertEquals(expected.nationalities(), actual.nationalities(),
+                "When players are written, nationalities() should match a rebuilt snapshot.");
+        for (String nationality : expected.nationalities()) {
+            assertEquals(expected.highestPaidPlayer(nationality), actual.highestPaidPlayer(nationality),
+                    "When players are written, highestPaidPlayer(" + nationality + ") " +
+                            "should match a rebuilt snapshot.");
+        }
+        assertEquals(expected.groups(), actual.groups(),
+                "When players are written, groups() should match a rebuilt snapshot.");
+
+        for (Position position : POSITIONS) {
+            long budget = random.nextInt(40) * 25_000L;
+            assertEquals(playerOf(expected, expected.topProspect(position, budget)),
+                    playerOf(actual, actual.topProspect(position, budget)),
+                    "When players are written, topProspect(" + position + ", " + budget + ") " +
+                            "should match a rebuilt snapshot.");
+        }
+
+        String keyword = "Player " + random.nextInt(100);
+        assertEquals(playersContaining(expected, keyword), playersContaining(actual, keyword),
+                "When players are written, rowsContaining(" + keyword + ") should match a rebuilt snapshot.");
+
+        Player player = randomPlayer(random, PLAYERS_COUNT, false);
+        int k = random.nextInt(30);
+        assertEquals(expected.nearest(player, k), actual.nearest(player, k),
+                "When players are written, nearest(...) with k = " + k + " should match a rebuilt snapshot.");
+    }
+
+    private static Player playerOf(PlayerSnapshot snapshot, int row) {
+        return row == PlayerSnapshot.NO_ROW ? null : snapshot.player(row);
+    }
+
+    private static Set<Player> playersContaining(PlayerSnapshot snapshot, String keyword) {
+        return Arrays.stream(snapshot.rowsContaining(keyword))
+                .mapToObj(snapshot::player)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isSamePlayer(Player player, Player other) {
+        return player.fullName().equals(other.fullName()) && player.birthDate().equals(other.birthDate());
+    }
+
+    private static Player randomPlayer(Random random, int id, boolean isOutOfScale) {
+        int age = 16 + random.nextInt(20);
+        long valueEuro = random.nextInt(40) * 25_000L;
+        if (isOutOfScale) {
+            valueEuro *= 100;
+        }
+
+        return new Player(
+                "P. " + id,
+                "Player " + id,
+                LocalDate.of(2000 + id % 3, 1, 1),
+                age,
+                165 + random.nextInt(8) * 5,
+                60 + random.nextInt(6) * 5,
+                List.of(POSITIONS[random.nextInt(POSITIONS.length)], POSITIONS[random.nextInt(POSITIONS.length)]),
+                "Nationality " + random.nextInt(10),
+                50 + random.nextInt(40),
+                60 + random.nextInt(35),
+                valueEuro,
+                random.nextInt(100) * 1_000L,
+                random.nextBoolean() ? Foot.LEFT : Foot.RIGHT
+        );
+    }
+}
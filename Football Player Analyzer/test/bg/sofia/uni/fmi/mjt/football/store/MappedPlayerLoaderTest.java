@@ -0,0 +1,57 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedPlayerLoaderTest {
+    private static final String HEADERS = "name;full_name;birth_date;age;height_cm;weight_kgs;positions;" +
+            "nationality;overall_rating;potential;value_euro;wage_euro;preferred_foot";
+    private static final List<String> LINES = List.of(
+            "D. Berbatov;Dimitar Ivanov Berbatov;1/30/1981;42;189;79;ST;Bulgaria;91;93;20000000;200000;Left",
+            "L. Messi;Lionel Andrés Messi Cuccittini;6/24/1987;31;170.18;72.1;CF,ST;Argentina;94;94;110500000;" +
+                    "565000;Left",
+            "P. Pogba;Paul Pogba;3/15/1993;25;190.5;83.9;CAM,CM,LWB,RWB,CDM;France;88;91;73000000;255000;Right",
+            "A. Kolev;Alexander Kolev;12/8/1992;26;190.5;81.2;GK;Bulgaria;65;68;700000;20000;right"
+    );
+
+    @Test
+    void testLoadInSmallChunksMatchesPlayerOf(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("players.csv");
+        Files.writeString(file, HEADERS + "\r\n" + String.join("\r\n", LINES) + "\r\n");
+
+        List<Player> expected = new ArrayList<>();
+        LINES.forEach(line -> expected.add(Player.of(line)));
+
+        for (long chunkSize = 1; chunkSize <= 256; chunkSize *= 2) {
+            assertEquals(
+                    expected,
+                    new MappedPlayerLoader(new ForkJoinPool(2), chunkSize).load(file),
+                    "When called load(...) with chunks of " + chunkSize + " bytes, " +
+                            "method should return the players in file order."
+            );
+        }
+    }
+
+    @Test
+    void testLoadWithUnknownPosition(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("players.csv");
+        Files.writeString(file, HEADERS + "\n" + LINES.get(0).replace(";ST;", ";XX;") + "\n");
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MappedPlayerLoader(ForkJoinPool.commonPool()).load(file),
+                "When called load(...) with an unknown position, method should throw IllegalArgumentException."
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NationalityAggregatesTest {
+    private static final int PLAYERS_COUNT = 2000;
+    private static final int NATIONALITIES_COUNT = 40;
+
+    @Test
+    void testAggregatesMatchLinearScan() {
+        PlayerTable table = new PlayerTable(randomPlayers(new Random(PLAYERS_COUNT)));
+        NationalityAggregates aggregates = new NationalityAggregates(table);
+
+        for (int nationality = 0; nationality < table.nationalities().size(); nationality++) {
+            int code = nationality;
+            int[] rows = IntStream.range(0, table.size()).filter(row -> table.nationality(row) == code).toArray();
+
+            assertArrayEquals(rows, aggregates.rowsOf(code).toArray(),
+                    "When called rowsOf(" + code + "), method should return the rows of the nationality in order.");
+            assertEquals(rows.length, aggregates.count(code),
+                    "When called count(" + code + "), method should return the number of players.");
+            assertEquals(highestPaidByScan(table, rows), aggregates.highestPaid(code),
+                    "When called highestPaid(" + code + "), method should return the same row as a linear scan.");
+        }
+    }
+
+    @Test
+    void testNationalities() {
+        PlayerTable table = new PlayerTable(randomPlayers(new Random(PLAYERS_COUNT)));
+
+        assertEquals(
+                table.players().stream().map(Player::nationality).collect(Collectors.toSet()),
+                new NationalityAggregates(table).nationalities(),
+                "When called nationalities(), method should return every nationality of the table."
+        );
+    }
+
+    private static int highestPaidByScan(PlayerTable table, int[] rows) {
+        int highestPaid = NationalityAggregates.NO_ROW;
+        for (int row : rows) {
+            if (highestPaid == NationalityAggregates.NO_ROW || table.wageEuro(row) > table.wageEuro(highestPaid)) {
+                highestPaid = row;
+            }
+        }
+
+        return highestPaid;
+    }
+
+    private static List<Player> randomPlayers(Random random) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_COUNT; i++) {
+            players.add(new Player(
+                    "P. " + i,
+                    "Player " + i,
+                    LocalDate.of(2000, 1, 1),
+                    19,
+                    180,
+                    75,
+                    List.of(Position.CM),
+                    "Nationality " + random.nextInt(NATIONALITIES_COUNT),
+                    70,
+                    80,
+                    1_000_000L,
+                    random.nextInt(100) * 1_000L,
+                    Foot.RIGHT
+            ));
+        }
+
+        return players;
+    }
+}
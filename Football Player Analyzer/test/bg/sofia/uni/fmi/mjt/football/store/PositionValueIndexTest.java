@@ -0,0 +1,113 @@
+package bg.sofia.uni.fmi.mjt.football.store;
+
+import bg.sofia.uni.fmi.mjt.football.Foot;
+import bg.sofia.uni.fmi.mjt.football.Player;
+import bg.sofia.uni.fmi.mjt.football.Position;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PositionValueIndexTest {
+    private static final int PLAYERS_COUNT = 2000;
+    private static final Position[] POSITIONS = Position.values();
+
+    @Test
+    void testTopProspectMatchesLinearScan() {
+        PlayerTable table = new PlayerTable(randomPlayers(new Random(PLAYERS_COUNT)));
+        PositionValueIndex index = new PositionValueIndex(table);
+
+        for (Position position : POSITIONS) {
+            for (long budget = 0; budget <= 1_000_000; budget += 25_000) {
+                assertEquals(
+                        topProspectByScan(table, position, budget),
+                        index.topProspect(position, budget),
+                        "When called topProspect(" + position + ", " + budget + "), " +
+                                "method should return the same row as a linear scan."
+                );
+            }
+        }
+    }
+
+    @Test
+    void testTopProspectSkipsExcludedRows() {
+        PlayerTable table = new PlayerTable(randomPlayers(new Random(POSITIONS.length)));
+        PositionValueIndex index = new PositionValueIndex(table);
+
+        for (int divisor = 2; divisor <= 4; divisor++) {
+            int excludedDivisor = divisor;
+            IntPredicate isExcluded = row -> row % excludedDivisor == 0;
+
+            for (Position position : POSITIONS) {
+                for (long budget = 0; budget <= 1_000_000; budget += 25_000) {
+                    assertEquals(
+                            topProspectByScan(table, position, budget, isExcluded),
+                            index.topProspect(position, budget, isExcluded),
+                            "When called topProspect(" + position + ", " + budget + ") with excluded rows, " +
+                                    "method should skip them in a linear scan."
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTopProspectWithNoPlayers() {
+        PositionValueIndex index = new PositionValueIndex(new PlayerTable(List.of()));
+
+        assertEquals(
+                PositionValueIndex.NO_ROW,
+                index.topProspect(Position.ST, Long.MAX_VALUE),
+                "When called topProspect(...) with no players, method should return NO_ROW."
+        );
+    }
+
+    private static int topProspectByScan(PlayerTable table, Position position, long budget) {
+        return topProspectByScan(table, position, budget, row -> false);
+    }
+
+    private static int topProspectByScan(PlayerTable table, Position position, long budget, IntPredicate isExcluded) {
+        short positionBit = PlayerTable.positionBit(position);
+
+        int topProspect = PositionValueIndex.NO_ROW;
+        for (int row = 0; row < table.size(); row++) {
+            if (!isExcluded.test(row) && (table.positionMask(row) & positionBit) != 0 &&
+                    table.valueEuro(row) <= budget &&
+                    (topProspect == PositionValueIndex.NO_ROW || table.isMoreProspective(row, topProspect))) {
+                topProspect = row;
+            }
+        }
+
+        return topProspect;
+    }
+
+    private static List<Player> randomPlayers(Random random) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS_COUNT; i++) {
+            int age = 16 + random.nextInt(20);
+
+            players.add(new Player(
+                    "P. " + i,
+                    "Player " + i,
+                    LocalDate.of(2019 - age, 1, 1),
+                    age,
+                    180,
+                    75,
+                    List.of(POSITIONS[random.nextInt(POSITIONS.length)], POSITIONS[random.nextInt(POSITIONS.length)]),
+                    "Nationality " + random.nextInt(10),
+                    50 + random.nextInt(40),
+                    60 + random.nextInt(35),
+                    random.nextInt(40) * 25_000L,
+                    random.nextInt(100) * 1_000L,
+                    random.nextBoolean() ? Foot.LEFT : Foot.RIGHT
+            ));
+        }
+
+        return players;
+    }
+}
@@ -0,0 +1,102 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class BenchmarkRunner {
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double MEDIAN = 0.5;
+    private static final double PERCENTILE_90 = 0.9;
+    private static final double PERCENTILE_99 = 0.99;
+
+    private final ThreadMXBean threads;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+    private final int warmupIterations;
+    private final int measurementIterations;
+
+    private volatile Object sink;
+
+    public BenchmarkRunner() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS);
+    }
+
+    public BenchmarkRunner(int warmupIterations, int measurementIterations) {
+        if (warmupIterations < 0 || measurementIterations < 1) {
+            throw new IllegalArgumentException("Iteration counts are not valid.");
+        }
+
+        this.threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+    }
+
+    public static void printHeader() {
+        System.out.printf("%-52s %10s %10s %10s %10s %14s %12s %12s %6s %8s%n",
+                "benchmark", "mean ms", "p50 ms", "p90 ms", "p99 ms", "ops/s", "ns/op", "B/op", "gc", "gc ms");
+    }
+
+    public void run(String name, long operationsPerIteration, Supplier<?> iteration) {
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = iteration.get();
+        }
+
+        long[] iterationNanos = new long[measurementIterations];
+        long elapsedNanos = 0;
+        long allocatedBefore = allocatedBytes();
+        long collectionsBefore = collections();
+        long collectionMillisBefore = collectionMillis();
+
+        for (int i = 0; i < measurementIterations; i++) {
+            long start = System.nanoTime();
+
+            sink = iteration.get();
+
+            iterationNanos[i] = System.nanoTime() - start;
+            elapsedNanos += iterationNanos[i];
+        }
+
+        long allocatedBytes = allocatedBytes() - allocatedBefore;
+        long operations = operationsPerIteration * measurementIterations;
+        Arrays.sort(iterationNanos);
+
+        System.out.printf("%-52s %10.3f %10.3f %10.3f %10.3f %14.1f %12.1f %12.1f %6d %8d%n",
+                name,
+                elapsedNanos / NANOS_PER_MILLI / measurementIterations,
+                percentile(iterationNanos, MEDIAN) / NANOS_PER_MILLI,
+                percentile(iterationNanos, PERCENTILE_90) / NANOS_PER_MILLI,
+                percentile(iterationNanos, PERCENTILE_99) / NANOS_PER_MILLI,
+                operations * NANOS_PER_SECOND / elapsedNanos,
+                (double) elapsedNanos / operations,
+                (double) allocatedBytes / operations,
+                collections() - collectionsBefore,
+                collectionMillis() - collectionMillisBefore);
+    }
+
+    private long allocatedBytes() {
+        return threads.isThreadAllocatedMemorySupported() ?
+                threads.getTotalThreadAllocatedBytes() : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private long collections() {
+        return garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private long collectionMillis() {
+        return garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static long percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+
+        return sortedNanos[Math.clamp(index, 0, sortedNanos.length - 1)];
+    }
+}
@@ -0,0 +1,59 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.store.CSVColumnsLoader;
+import bg.sofia.uni.fmi.mjt.space.store.MissionColumns;
+import bg.sofia.uni.fmi.mjt.space.store.StringDictionary;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class CSVParsingBenchmark {
+    private static final String DEFAULT_MISSIONS_FILE = "all-missions-from-1957.csv";
+    private static final int DEFAULT_SCALE = 100;
+
+    public static void main(String[] args) throws IOException {
+        Path missionsFile = Path.of(args.length > 0 ? args[0] : DEFAULT_MISSIONS_FILE);
+        int scale = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SCALE;
+
+        List<String> lines = Files.readAllLines(missionsFile);
+        String header = lines.get(0);
+        String body = String.join(System.lineSeparator(), lines.subList(1, lines.size()));
+        String csv = header + System.lineSeparator() +
+                (body + System.lineSeparator()).repeat(scale);
+        long rows = (long) (lines.size() - 1) * scale;
+
+        System.out.printf("Parsing %d mission rows%n", rows);
+        BenchmarkRunner.printHeader();
+
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.run("Mission::of", rows, () -> parseRecords(csv));
+        runner.run("CSVColumnsLoader", rows, () -> parseColumns(csv));
+    }
+
+    private static List<Mission> parseRecords(String csv) {
+        try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+            return reader.lines().skip(1).map(Mission::of).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MissionColumns parseColumns(String csv) {
+        MissionColumns missions = new MissionColumns(new StringDictionary());
+
+        try (CSVRecordReader records = new CSVRecordReader(new StringReader(csv))) {
+            new CSVColumnsLoader().loadMissions(records, missions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return missions;
+    }
+}
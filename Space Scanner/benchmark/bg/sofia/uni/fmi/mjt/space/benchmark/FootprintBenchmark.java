@@ -0,0 +1,144 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
+import bg.sofia.uni.fmi.mjt.space.store.CSVColumnsLoader;
+import bg.sofia.uni.fmi.mjt.space.store.MissionColumns;
+import bg.sofia.uni.fmi.mjt.space.store.RocketColumns;
+import bg.sofia.uni.fmi.mjt.space.store.StringDictionary;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FootprintBenchmark {
+    private static final String DEFAULT_MISSIONS_FILE = "all-missions-from-1957.csv";
+    private static final String DEFAULT_ROCKETS_FILE = "all-rockets-from-1957.csv";
+
+    private static final int OBJECT_HEADER_SIZE = 12;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int STRING_SIZE = 24;
+    private static final int ALIGNMENT = 8;
+
+    public static void main(String[] args) throws IOException {
+        Path missionsFile = Path.of(args.length > 0 ? args[0] : DEFAULT_MISSIONS_FILE);
+        Path rocketsFile = Path.of(args.length > 1 ? args[1] : DEFAULT_ROCKETS_FILE);
+
+        StringDictionary rocketNames = new StringDictionary();
+        MissionColumns missions = new MissionColumns(rocketNames);
+        RocketColumns rockets = new RocketColumns(rocketNames);
+        try (CSVRecordReader missionRecords = new CSVRecordReader(Files.newBufferedReader(missionsFile));
+             CSVRecordReader rocketRecords = new CSVRecordReader(Files.newBufferedReader(rocketsFile))) {
+            CSVColumnsLoader loader = new CSVColumnsLoader();
+            loader.loadMissions(missionRecords, missions);
+            loader.loadRockets(rocketRecords, rockets);
+        }
+
+        List<String> missionLines = Files.readAllLines(missionsFile);
+        List<String> rocketLines = Files.readAllLines(rocketsFile);
+        Mission[] missionRecords = missionLines.subList(1, missionLines.size()).stream()
+                .map(Mission::of)
+                .toArray(Mission[]::new);
+        Rocket[] rocketRecords = rocketLines.subList(1, rocketLines.size()).stream()
+                .map(Rocket::of)
+                .toArray(Rocket[]::new);
+
+        System.out.printf("%-24s %10s %14s%n", "store", "rows", "bytes");
+        print("MissionColumns", missions.size(), deepSize(missions));
+        print("MissionColumns (trimmed)", missions.size(), deepSize(trimmed(missions)));
+        print("RocketColumns", rockets.size(), deepSize(rockets));
+        print("Both column stores", missions.size() + rockets.size(), deepSize(new Object[] {missions, rockets}));
+        print("Mission records", missionRecords.length, deepSize(missionRecords));
+        print("Rocket records", rocketRecords.length, deepSize(rocketRecords));
+    }
+
+    private static void print(String store, int rows, long bytes) {
+        System.out.printf("%-24s %10d %14d%n", store, rows, bytes);
+    }
+
+    private static MissionColumns trimmed(MissionColumns missions) {
+        MissionColumns trimmed = new MissionColumns(new StringDictionary());
+        trimmed.appendAll(missions);
+
+        return trimmed;
+    }
+
+    private static long deepSize(Object root) {
+        Map<Object, Boolean> visited = new IdentityHashMap<>();
+        return deepSize(root, visited);
+    }
+
+    private static long deepSize(Object object, Map<Object, Boolean> visited) {
+        if (object == null || object instanceof Enum<?> || visited.put(object, true) != null) {
+            return 0;
+        }
+
+        return switch (object) {
+            case String string -> STRING_SIZE + align(ARRAY_HEADER_SIZE + string.length() *
+                    (string.chars().allMatch(c -> c < 256) ? Byte.BYTES : Character.BYTES));
+            case Double ignored -> align(OBJECT_HEADER_SIZE + Double.BYTES);
+            case LocalDate ignored -> align(OBJECT_HEADER_SIZE + Integer.BYTES + 2 * Short.BYTES);
+            case Optional<?> optional -> align(OBJECT_HEADER_SIZE + REFERENCE_SIZE) +
+                    deepSize(optional.orElse(null), visited);
+            case int[] array -> align(ARRAY_HEADER_SIZE + (long) array.length * Integer.BYTES);
+            case double[] array -> align(ARRAY_HEADER_SIZE + (long) array.length * Double.BYTES);
+            case byte[] array -> align(ARRAY_HEADER_SIZE + (long) array.length * Byte.BYTES);
+            case Object[] array -> align(ARRAY_HEADER_SIZE + (long) array.length * REFERENCE_SIZE) +
+                    Arrays.stream(array).mapToLong(element -> deepSize(element, visited)).sum();
+            default -> reflectedSize(object, visited);
+        };
+    }
+
+    private static long reflectedSize(Object object, Map<Object, Boolean> visited) {
+        long shallowSize = OBJECT_HEADER_SIZE;
+        long referencedSize = 0;
+
+        for (Class<?> type = object.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                if (field.getType().isPrimitive()) {
+                    shallowSize += primitiveSize(field.getType());
+                } else {
+                    shallowSize += REFERENCE_SIZE;
+                    field.setAccessible(true);
+                    try {
+                        referencedSize += deepSize(field.get(object), visited);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        return align(shallowSize) + referencedSize;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        }
+
+        if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+
+        return type == short.class || type == char.class ? Short.BYTES : Byte.BYTES;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,87 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import bg.sofia.uni.fmi.mjt.space.store.CSVColumnsLoader;
+import bg.sofia.uni.fmi.mjt.space.store.MappedCSVLoader;
+import bg.sofia.uni.fmi.mjt.space.store.MissionColumns;
+import bg.sofia.uni.fmi.mjt.space.store.RocketColumns;
+import bg.sofia.uni.fmi.mjt.space.store.SnapshotFile;
+import bg.sofia.uni.fmi.mjt.space.store.StringDictionary;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class LoadingBenchmark {
+    private static final String DEFAULT_MISSIONS_FILE = "all-missions-from-1957.csv";
+    private static final int DEFAULT_SCALE = 100;
+
+    public static void main(String[] args) throws IOException {
+        Path missionsFile = Path.of(args.length > 0 ? args[0] : DEFAULT_MISSIONS_FILE);
+        int scale = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SCALE;
+
+        List<String> lines = Files.readAllLines(missionsFile);
+        Path scaledFile = Files.createTempFile("missions", ".csv");
+        scaledFile.toFile().deleteOnExit();
+
+        Files.writeString(scaledFile, lines.get(0) + System.lineSeparator());
+        String body = String.join(System.lineSeparator(), lines.subList(1, lines.size())) + System.lineSeparator();
+        for (int i = 0; i < scale; i++) {
+            Files.writeString(scaledFile, body, StandardOpenOption.APPEND);
+        }
+        long rows = (long) (lines.size() - 1) * scale;
+
+        System.out.printf("Loading %d mission rows (%d bytes)%n", rows, Files.size(scaledFile));
+        BenchmarkRunner.printHeader();
+
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.run("CSVRecordReader", rows, () -> loadSequentially(scaledFile));
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            runner.run("MappedCSVLoader x" + parallelism, rows, () -> loadMapped(scaledFile, pool));
+            pool.shutdown();
+        }
+
+        Path snapshotFile = Files.createTempFile("missions", ".snapshot");
+        snapshotFile.toFile().deleteOnExit();
+        MissionColumns missions = loadSequentially(scaledFile);
+        SnapshotFile.write(snapshotFile, missions, new RocketColumns(missions.rocketNames()));
+
+        System.out.printf("Snapshot of %d mission rows (%d bytes)%n", rows, Files.size(snapshotFile));
+        runner.run("SnapshotFile", rows, () -> loadSnapshot(snapshotFile));
+    }
+
+    private static MissionColumns loadSequentially(Path file) {
+        MissionColumns missions = new MissionColumns(new StringDictionary());
+
+        try (CSVRecordReader records = new CSVRecordReader(Files.newBufferedReader(file))) {
+            new CSVColumnsLoader().loadMissions(records, missions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return missions;
+    }
+
+    private static MissionColumns loadSnapshot(Path file) {
+        try {
+            return SnapshotFile.read(file).missions();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MissionColumns loadMapped(Path file, ForkJoinPool pool) {
+        try {
+            return new MappedCSVLoader(pool).loadMissions(file, new StringDictionary());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import bg.sofia.uni.fmi.mjt.space.algorithm.CounterModeRijndael;
+import bg.sofia.uni.fmi.mjt.space.algorithm.Rijndael;
+import bg.sofia.uni.fmi.mjt.space.algorithm.SymmetricBlockCipher;
+import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class RijndaelBenchmark {
+    private static final int MEGABYTE = 1 << 20;
+    private static final int DEFAULT_MAX_MEGABYTES = 64;
+    private static final int KEY_SIZE = 128;
+    private static final int SIZE_GROWTH = 8;
+
+    public static void main(String[] args) throws NoSuchAlgorithmException {
+        int maxMegabytes = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_MEGABYTES;
+
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(KEY_SIZE);
+        SecretKey secretKey = keyGenerator.generateKey();
+
+        byte[] pattern = new byte[MEGABYTE];
+        new Random(KEY_SIZE).nextBytes(pattern);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (long megabytes = 1; megabytes <= maxMegabytes; megabytes *= SIZE_GROWTH) {
+            long bytes = megabytes * MEGABYTE;
+            BenchmarkRunner runner = megabytes == 1 ? new BenchmarkRunner() : new BenchmarkRunner(1, 3);
+
+            System.out.printf("Encrypting %d MB (ns/op and B/op are per byte)%n", megabytes);
+            BenchmarkRunner.printHeader();
+            runner.run("Rijndael", bytes, () -> encrypt(new Rijndael(secretKey), pattern, bytes));
+
+            for (int parallelism = 1; parallelism <= processors; parallelism *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                runner.run("CounterModeRijndael x" + parallelism, bytes,
+                        () -> encrypt(new CounterModeRijndael(secretKey, pool), pattern, bytes));
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static long encrypt(SymmetricBlockCipher cipher, byte[] pattern, long bytes) {
+        CountingOutputStream output = new CountingOutputStream();
+
+        try {
+            cipher.encrypt(new RepeatingInputStream(pattern, bytes), output);
+        } catch (CipherException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return output.count;
+    }
+
+    private static final class RepeatingInputStream extends InputStream {
+        private final byte[] pattern;
+        private final long length;
+        private long position;
+
+        private RepeatingInputStream(byte[] pattern, long length) {
+            this.pattern = pattern;
+            this.length = length;
+            this.position = 0;
+        }
+
+        @Override
+        public int read() {
+            if (position == length) {
+                return -1;
+            }
+
+            return pattern[(int) (position++ % pattern.length)] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (position == length) {
+                return -1;
+            }
+
+            int start = (int) (position % pattern.length);
+            int copied = (int) Math.min(Math.min(count, pattern.length - start), length - position);
+            System.arraycopy(pattern, start, buffer, offset, copied);
+            position += copied;
+
+            return copied;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
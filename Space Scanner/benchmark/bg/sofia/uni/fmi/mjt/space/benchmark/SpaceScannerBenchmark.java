@@ -0,0 +1,179 @@
+package bg.sofia.uni.fmi.mjt.space.benchmark;
+
+import bg.sofia.uni.fmi.mjt.space.MJTSpaceScanner;
+import bg.sofia.uni.fmi.mjt.space.SpaceScannerAPI;
+import bg.sofia.uni.fmi.mjt.space.algorithm.Rijndael;
+import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class SpaceScannerBenchmark {
+    private static final String DEFAULT_MISSIONS_FILE = "all-missions-from-1957.csv";
+    private static final String DEFAULT_ROCKETS_FILE = "all-rockets-from-1957.csv";
+    private static final String DEFAULT_SCALES = "10,100,1000";
+    private static final int KEY_SIZE = 128;
+    private static final int TOP_N = 10;
+
+    private static final int QUERY_WARMUP_ITERATIONS = 20;
+    private static final int QUERY_MEASUREMENT_ITERATIONS = 100;
+    private static final int LOADING_WARMUP_ITERATIONS = 2;
+    private static final int LOADING_MEASUREMENT_ITERATIONS = 5;
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(1957, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2100, 1, 1);
+    private static final LocalDate DECADE_FROM = LocalDate.of(2000, 3, 15);
+    private static final LocalDate DECADE_TO = LocalDate.of(2010, 9, 15);
+
+    public static void main(String[] args) throws IOException, GeneralSecurityException {
+        Path missionsFile = Path.of(args.length > 0 ? args[0] : DEFAULT_MISSIONS_FILE);
+        Path rocketsFile = Path.of(args.length > 1 ? args[1] : DEFAULT_ROCKETS_FILE);
+        int[] scales = Arrays.stream((args.length > 2 ? args[2] : DEFAULT_SCALES).split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(KEY_SIZE);
+        SecretKey secretKey = keyGenerator.generateKey();
+
+        List<String> lines = Files.readAllLines(missionsFile);
+        String extraMission = lines.get(1);
+
+        for (int scale : scales) {
+            Path scaledFile = scale(lines, scale);
+            long rows = (long) (lines.size() - 1) * scale;
+
+            System.out.printf("Scale x%d: %d mission rows (%d bytes)%n", scale, rows, Files.size(scaledFile));
+            BenchmarkRunner.printHeader();
+
+            BenchmarkRunner loadingRunner = new BenchmarkRunner(LOADING_WARMUP_ITERATIONS,
+                    LOADING_MEASUREMENT_ITERATIONS);
+            loadingRunner.run("ingestion: Reader constructor", rows,
+                    () -> loadFromReaders(scaledFile, rocketsFile, secretKey));
+            loadingRunner.run("ingestion: fromFiles", rows,
+                    () -> MJTSpaceScanner.fromFiles(scaledFile, rocketsFile, secretKey));
+            loadingRunner.run("encryption: Rijndael", Files.size(scaledFile),
+                    () -> encryptFile(scaledFile, secretKey));
+
+            MJTSpaceScanner scanner = MJTSpaceScanner.fromFiles(scaledFile, rocketsFile, secretKey);
+            BenchmarkRunner runner = new BenchmarkRunner(QUERY_WARMUP_ITERATIONS, QUERY_MEASUREMENT_ITERATIONS);
+            benchmarkQueries(runner, scanner);
+
+            runner.run("addMission", 1, () -> {
+                scanner.addMission(Mission.of(extraMission));
+                return scanner;
+            });
+
+            Files.delete(scaledFile);
+        }
+    }
+
+    private static void benchmarkQueries(BenchmarkRunner runner, SpaceScannerAPI scanner) {
+        runner.run("getAllMissions", 1, () -> consume(scanner.getAllMissions()));
+        runner.run("getAllMissions(status)", 1, () -> consume(scanner.getAllMissions(MissionStatus.FAILURE)));
+        runner.run("getCompanyWithMostSuccessfulMissions", 1,
+                () -> scanner.getCompanyWithMostSuccessfulMissions(DECADE_FROM, DECADE_TO));
+        runner.run("getMissionsPerCountry", 1, () -> consume(scanner.getMissionsPerCountry()));
+        runner.run("getTopNLeastExpensiveMissions", 1, () -> scanner.getTopNLeastExpensiveMissions(
+                TOP_N, MissionStatus.SUCCESS, RocketStatus.STATUS_ACTIVE));
+        runner.run("getMostDesiredLocationForMissionsPerCompany", 1,
+                scanner::getMostDesiredLocationForMissionsPerCompany);
+        runner.run("getLocationWithMostSuccessfulMissionsPerCompany", 1,
+                () -> scanner.getLocationWithMostSuccessfulMissionsPerCompany(DECADE_FROM, DECADE_TO));
+        runner.run("getAllRockets", 1, () -> consume(scanner.getAllRockets()));
+        runner.run("getTopNTallestRockets", 1, () -> scanner.getTopNTallestRockets(TOP_N));
+        runner.run("getWikiPageForRocket", 1, scanner::getWikiPageForRocket);
+        runner.run("getWikiPagesForRocketsUsedInMostExpensiveMissions", 1,
+                () -> scanner.getWikiPagesForRocketsUsedInMostExpensiveMissions(
+                        TOP_N, MissionStatus.SUCCESS, RocketStatus.STATUS_ACTIVE));
+        runner.run("getReliabilityPerRocket", 1,
+                () -> scanner.getReliabilityPerRocket(DECADE_FROM, DECADE_TO));
+        runner.run("getTopNMostReliableRockets", 1,
+                () -> scanner.getTopNMostReliableRockets(TOP_N, FIRST_DAY, LAST_DAY));
+        runner.run("saveMostReliableRocket", 1,
+                () -> encrypted(() -> scanner.saveMostReliableRocket(OutputStream.nullOutputStream(),
+                        DECADE_FROM, DECADE_TO)));
+        runner.run("exportEncrypted(getAllMissions)", 1,
+                () -> encrypted(() -> scanner.exportEncrypted(SpaceScannerAPI::getAllMissions,
+                        OutputStream.nullOutputStream())));
+    }
+
+    private static Path scale(List<String> lines, int scale) throws IOException {
+        Path scaledFile = Files.createTempFile("missions", ".csv");
+        scaledFile.toFile().deleteOnExit();
+
+        Files.writeString(scaledFile, lines.get(0) + System.lineSeparator());
+        String body = String.join(System.lineSeparator(), lines.subList(1, lines.size())) + System.lineSeparator();
+        for (int i = 0; i < scale; i++) {
+            Files.writeString(scaledFile, body, StandardOpenOption.APPEND);
+        }
+
+        return scaledFile;
+    }
+
+    private static MJTSpaceScanner loadFromReaders(Path missionsFile, Path rocketsFile, SecretKey secretKey) {
+        try (Reader missionsReader = Files.newBufferedReader(missionsFile);
+             Reader rocketsReader = Files.newBufferedReader(rocketsFile)) {
+            return new MJTSpaceScanner(missionsReader, rocketsReader, secretKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object encryptFile(Path file, SecretKey secretKey) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            new Rijndael(secretKey).encrypt(inputStream, OutputStream.nullOutputStream());
+            return inputStream;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CipherException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int consume(Collection<?> collection) {
+        int count = 0;
+        for (Object element : collection) {
+            if (element != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static int consume(Map<?, ? extends Collection<?>> map) {
+        return map.values().stream().mapToInt(SpaceScannerBenchmark::consume).sum();
+    }
+
+    private static Object encrypted(EncryptingCall call) {
+        try {
+            call.run();
+            return call;
+        } catch (CipherException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EncryptingCall {
+        void run() throws CipherException;
+    }
+}
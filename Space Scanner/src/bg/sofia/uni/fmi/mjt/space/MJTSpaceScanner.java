@@ -3,48 +3,204 @@ package bg.sofia.uni.fmi.mjt.space;
 import bg.sofia.uni.fmi.mjt.space.algorithm.Rijndael;
 import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
 import bg.sofia.uni.fmi.mjt.space.exception.TimeFrameMismatchException;
+import bg.sofia.uni.fmi.mjt.space.export.ResultWriter;
 import bg.sofia.uni.fmi.mjt.space.mission.Mission;
 import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
 import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
 import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+import bg.sofia.uni.fmi.mjt.space.store.BoundedRowHeap;
+import bg.sofia.uni.fmi.mjt.space.store.CSVColumnsLoader;
+import bg.sofia.uni.fmi.mjt.space.store.DatasetSnapshot;
+import bg.sofia.uni.fmi.mjt.space.store.ExecutionMode;
+import bg.sofia.uni.fmi.mjt.space.store.MappedCSVLoader;
+import bg.sofia.uni.fmi.mjt.space.store.MissionAggregator;
+import bg.sofia.uni.fmi.mjt.space.store.MissionColumns;
+import bg.sofia.uni.fmi.mjt.space.store.MissionDateIndex;
+import bg.sofia.uni.fmi.mjt.space.store.RocketColumns;
+import bg.sofia.uni.fmi.mjt.space.store.RocketReliabilityTable;
+import bg.sofia.uni.fmi.mjt.space.store.SnapshotFile;
+import bg.sofia.uni.fmi.mjt.space.store.StringDictionary;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
 
 import javax.crypto.SecretKey;
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class MJTSpaceScanner implements SpaceScannerAPI {
-    private Collection<Mission> missions;
-    private Collection<Rocket> rockets;
+    private static final int NO_KEY = -1;
+
+    private MissionColumns liveMissions;
+    private RocketColumns liveRockets;
+    private MissionAggregator aggregator;
+    private volatile DatasetSnapshot snapshot;
     private SecretKey secretKey;
+    private ExecutionMode mode;
 
     public MJTSpaceScanner(Reader missionsReader, Reader rocketsReader, SecretKey secretKey) {
+        this(missionsReader, rocketsReader, secretKey, ExecutionMode.sequential());
+    }
+
+    public MJTSpaceScanner(Reader missionsReader, Reader rocketsReader, SecretKey secretKey, ExecutionMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
         this.secretKey = secretKey;
+        this.mode = mode;
 
-        try (BufferedReader bufferedMissionsReader = new BufferedReader(missionsReader);
-             BufferedReader bufferedRocketsReader = new BufferedReader(rocketsReader)) {
-            missions = bufferedMissionsReader.lines().skip(1).map(Mission::of).toList();
-            rockets = bufferedRocketsReader.lines().skip(1).map(Rocket::of).toList();
+        StringDictionary rocketNames = new StringDictionary();
+        liveMissions = new MissionColumns(rocketNames);
+        liveRockets = new RocketColumns(rocketNames);
+
+        try (CSVRecordReader missionRecords = new CSVRecordReader(missionsReader);
+             CSVRecordReader rocketRecords = new CSVRecordReader(rocketsReader)) {
+            CSVColumnsLoader loader = new CSVColumnsLoader();
+            loader.loadMissions(missionRecords, liveMissions);
+            loader.loadRockets(rocketRecords, liveRockets);
         } catch (IOException e) {
             throw new UncheckedIOException("Something went wrong when opening files.", e);
         }
+
+        aggregator = new MissionAggregator();
+        publish();
+    }
+
+    private MJTSpaceScanner(MissionColumns missions, RocketColumns rockets, SecretKey secretKey,
+                            ExecutionMode mode) {
+        this.liveMissions = missions;
+        this.liveRockets = rockets;
+        this.aggregator = new MissionAggregator();
+        this.secretKey = secretKey;
+        this.mode = mode;
+
+        publish();
+    }
+
+    public static MJTSpaceScanner fromFiles(Path missionsFile, Path rocketsFile, SecretKey secretKey) {
+        return fromFiles(missionsFile, rocketsFile, secretKey, ForkJoinPool.commonPool());
+    }
+
+    public static MJTSpaceScanner fromFiles(Path missionsFile, Path rocketsFile, SecretKey secretKey,
+                                            ForkJoinPool pool) {
+        return fromFiles(missionsFile, rocketsFile, secretKey, pool, ExecutionMode.sequential());
+    }
+
+    public static MJTSpaceScanner fromFiles(Path missionsFile, Path rocketsFile, SecretKey secretKey,
+                                            ExecutionMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
+        return fromFiles(missionsFile, rocketsFile, secretKey, mode.pool(), mode);
+    }
+
+    private static MJTSpaceScanner fromFiles(Path missionsFile, Path rocketsFile, SecretKey secretKey,
+                                             ForkJoinPool pool, ExecutionMode mode) {
+        if (missionsFile == null) {
+            throw new IllegalArgumentException("Missions file is null.");
+        }
+
+        if (rocketsFile == null) {
+            throw new IllegalArgumentException("Rockets file is null.");
+        }
+
+        StringDictionary rocketNames = new StringDictionary();
+        MappedCSVLoader loader = new MappedCSVLoader(pool);
+
+        try {
+            return new MJTSpaceScanner(
+                    loader.loadMissions(missionsFile, rocketNames),
+                    loader.loadRockets(rocketsFile, rocketNames),
+                    secretKey,
+                    mode
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when opening files.", e);
+        }
+    }
+
+    public static MJTSpaceScanner fromSnapshot(Path snapshotFile, SecretKey secretKey) {
+        return fromSnapshot(snapshotFile, secretKey, ExecutionMode.sequential());
+    }
+
+    public static MJTSpaceScanner fromSnapshot(Path snapshotFile, SecretKey secretKey, ExecutionMode mode) {
+        if (snapshotFile == null) {
+            throw new IllegalArgumentException("Snapshot file is null.");
+        }
+
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
+        try {
+            SnapshotFile snapshot = SnapshotFile.read(snapshotFile);
+
+            return new MJTSpaceScanner(snapshot.missions(), snapshot.rockets(), secretKey, mode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when reading the snapshot.", e);
+        }
+    }
+
+    public void saveSnapshot(Path snapshotFile) {
+        if (snapshotFile == null) {
+            throw new IllegalArgumentException("Snapshot file is null.");
+        }
+
+        DatasetSnapshot current = snapshot;
+
+        try {
+            SnapshotFile.write(snapshotFile, current.missions(), current.rockets());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when writing the snapshot.", e);
+        }
+    }
+
+    @Override
+    public synchronized void addMission(Mission mission) {
+        if (mission == null) {
+            throw new IllegalArgumentException("Mission is null.");
+        }
+
+        liveMissions.add(mission);
+        publish();
+    }
+
+    @Override
+    public synchronized void appendMissions(Reader missionsReader) {
+        if (missionsReader == null) {
+            throw new IllegalArgumentException("Missions reader is null.");
+        }
+
+        MissionColumns appended = new MissionColumns(new StringDictionary());
+        try (CSVRecordReader missionRecords = new CSVRecordReader(missionsReader)) {
+            new CSVColumnsLoader().appendMissions(missionRecords, appended);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Something went wrong when reading missions.", e);
+        }
+
+        liveMissions.appendAll(appended);
+        publish();
     }
 
     @Override
     public Collection<Mission> getAllMissions() {
-        return missions;
+        return snapshot.missions().asList();
     }
 
     @Override
@@ -53,7 +209,12 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new IllegalArgumentException("Mission status is null.");
         }
 
-        return missions.stream().filter(mission -> mission.missionStatus().equals(missionStatus)).toList();
+        MissionColumns missions = snapshot.missions();
+        int[] rows = mode.invoke(() -> mode.range(0, missions.size())
+                .filter(row -> missions.missionStatus(row) == missionStatus)
+                .toArray());
+
+        return missions.missions(rows);
     }
 
     @Override
@@ -70,24 +231,15 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new TimeFrameMismatchException("From date cannot be after to date.");
         }
 
-        Optional<Map.Entry<String, List<Mission>>> result = missions.stream()
-                .filter(mission -> mission.missionStatus().equals(MissionStatus.SUCCESS) &&
-                        isDateBetween(mission.date(), from, to))
-                .collect(Collectors.groupingBy(Mission::company))
-                .entrySet()
-                .stream()
-                .max(Comparator.comparing(entry -> entry.getValue().size()));
+        DatasetSnapshot current = snapshot;
+        int company = indexOfMax(current.dateIndex().successfulMissionsPerCompany(from, to));
 
-        return result.isPresent() ? result.get().getKey() : "";
+        return company == NO_KEY ? "" : current.missions().companies().decode(company);
     }
 
     @Override
     public Map<String, Collection<Mission>> getMissionsPerCountry() {
-        return missions.stream()
-                .collect(Collectors.groupingBy(
-                        mission -> mission.location().substring(mission.location().lastIndexOf(",") + 1).strip(),
-                        Collectors.toCollection(HashSet::new)
-                ));
+        return snapshot.missionsPerCountry();
     }
 
     @Override
@@ -104,44 +256,14 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new IllegalArgumentException("N is equal or less than 0.");
         }
 
-        return missions.stream()
-                .filter(
-                        mission -> mission.missionStatus().equals(missionStatus) &&
-                                mission.rocketStatus().equals(rocketStatus) &&
-                                mission.cost().isPresent()
-                )
-                .sorted(Comparator.comparing(mission -> mission.cost().get()))
-                .limit(n)
-                .toList();
+        DatasetSnapshot current = snapshot;
+
+        return current.missions().missions(current.costIndex().leastExpensive(n, missionStatus, rocketStatus));
     }
 
     @Override
     public Map<String, String> getMostDesiredLocationForMissionsPerCompany() {
-        return missions.stream()
-                .collect(Collectors.groupingBy(Mission::company))
-                .entrySet()
-                .stream()
-                .map(entry -> Map.entry(
-                        entry.getKey(),
-                        entry.getValue()
-                                .stream()
-                                .collect(
-                                        Collectors.groupingBy(
-                                                Mission::location,
-                                                Collectors.counting()
-                                        )
-                                )
-                                .entrySet()
-                                .stream()
-                                .max(Map.Entry.comparingByValue())
-                                .get()
-                                .getKey()
-                        )
-                )
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue
-                ));
+        return snapshot.mostDesiredLocationPerCompany();
     }
 
     @Override
@@ -154,29 +276,41 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new TimeFrameMismatchException("From date cannot be after to date.");
         }
 
-        return missions.stream()
-                .filter(mission -> mission.missionStatus().equals(MissionStatus.SUCCESS) &&
-                        isDateBetween(mission.date(), from, to))
-                .collect(Collectors.groupingBy(Mission::company)).entrySet().stream()
-                .map(entry -> Map.entry(
-                                entry.getKey(),
-                                entry.getValue().stream()
-                                        .collect(Collectors.groupingBy(Mission::location, Collectors.counting()))
-                                        .entrySet().stream()
-                                        .max(Map.Entry.comparingByValue())
-                                        .orElse(Map.entry("-", 0L))
-                                        .getKey()
-                        )
-                )
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue
-                ));
+        DatasetSnapshot current = snapshot;
+        MissionColumns missions = current.missions();
+        MissionDateIndex dateIndex = current.dateIndex();
+
+        int[] successfulMissionsPerPair = dateIndex.successfulMissionsPerCompanyLocation(from, to);
+        int[] bestPairPerCompany = new int[missions.companies().size()];
+        Arrays.fill(bestPairPerCompany, NO_KEY);
+
+        for (int pair = 0; pair < successfulMissionsPerPair.length; pair++) {
+            if (successfulMissionsPerPair[pair] > 0) {
+                int company = dateIndex.companyOfPair(pair);
+                int best = bestPairPerCompany[company];
+
+                if (best == NO_KEY || isMoreFrequentLocation(dateIndex, successfulMissionsPerPair, pair, best)) {
+                    bestPairPerCompany[company] = pair;
+                }
+            }
+        }
+
+        Map<String, String> result = new HashMap<>();
+        for (int company = 0; company < bestPairPerCompany.length; company++) {
+            if (bestPairPerCompany[company] != NO_KEY) {
+                result.put(
+                        missions.companies().decode(company),
+                        missions.locations().decode(dateIndex.locationOfPair(bestPairPerCompany[company]))
+                );
+            }
+        }
+
+        return result;
     }
 
     @Override
     public Collection<Rocket> getAllRockets() {
-        return rockets;
+        return snapshot.rockets().asList();
     }
 
     @Override
@@ -185,22 +319,25 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new IllegalArgumentException("N is less or equal to 0.");
         }
 
-        return rockets.stream()
-                .filter(rocket -> rocket.height().isPresent())
-                .sorted(Comparator.comparing(rocket -> rocket.height().get()))
-                .toList()
-                .reversed()
-                .stream()
-                .limit(n)
-                .toList();
+        RocketColumns rockets = snapshot.rockets();
+        BoundedRowHeap tallestRockets = mode.invoke(() -> mode.range(0, rockets.size())
+                .filter(rockets::hasHeight)
+                .collect(() -> new BoundedRowHeap(n, true, true),
+                        (heap, row) -> heap.offer(rockets.height(row), row),
+                        BoundedRowHeap::merge));
+
+        return rockets.rockets(tallestRockets.toSortedRows());
     }
 
     @Override
     public Map<String, Optional<String>> getWikiPageForRocket() {
-        return rockets.stream()
+        RocketColumns rockets = snapshot.rockets();
+
+        return rockets.rows()
+                .boxed()
                 .collect(Collectors.toMap(
-                        Rocket::name,
-                        Rocket::wiki
+                        row -> rockets.rocketNames().decode(rockets.name(row)),
+                        row -> Optional.ofNullable(rockets.wiki(row))
                 ));
     }
 
@@ -218,28 +355,67 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new IllegalArgumentException("N is less or equal to 0.");
         }
 
-        List<String> rocketNamesInNMostExpensiveMissions = missions.stream()
-                .filter(
-                        mission -> mission.missionStatus().equals(missionStatus) &&
-                                mission.rocketStatus().equals(rocketStatus) &&
-                                mission.cost().isPresent()
-                )
-                .sorted(Comparator.comparing(mission -> mission.cost().get()))
-                .toList()
-                .reversed()
-                .stream()
-                .limit(n)
-                .map(mission -> mission.detail().rocketName())
-                .toList();
+        DatasetSnapshot current = snapshot;
+        MissionColumns missions = current.missions();
+        RocketColumns rockets = current.rockets();
 
-        return rockets.stream()
-                .filter(rocket -> rocketNamesInNMostExpensiveMissions.contains(rocket.name()) &&
-                        rocket.wiki().isPresent())
-                .distinct()
-                .map(rocket -> rocket.wiki().get())
+        BitSet rocketNamesInNMostExpensiveMissions = new BitSet(rockets.rocketNames().size());
+        for (int row : current.costIndex().mostExpensive(n, missionStatus, rocketStatus)) {
+            rocketNamesInNMostExpensiveMissions.set(missions.rocketName(row));
+        }
+
+        return rockets.rows()
+                .filter(row -> rocketNamesInNMostExpensiveMissions.get(rockets.name(row)) && rockets.hasWiki(row))
+                .mapToObj(rockets::wiki)
                 .toList();
     }
 
+    @Override
+    public Map<String, Double> getReliabilityPerRocket(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("One of the input dates is null.");
+        }
+
+        if (from.isAfter(to)) {
+            throw new TimeFrameMismatchException("From date cannot be after to date.");
+        }
+
+        DatasetSnapshot current = snapshot;
+        StringDictionary rocketNames = current.rockets().rocketNames();
+        RocketReliabilityTable reliabilities = getRocketReliabilities(current, from, to);
+
+        return reliabilities.usedRocketNames()
+                .boxed()
+                .collect(Collectors.toMap(rocketNames::decode, reliabilities::reliability));
+    }
+
+    @Override
+    public List<Rocket> getTopNMostReliableRockets(int n, LocalDate from, LocalDate to) {
+        if (n < 1) {
+            throw new IllegalArgumentException("N is less or equal to 0.");
+        }
+
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("One of the input dates is null.");
+        }
+
+        if (from.isAfter(to)) {
+            throw new TimeFrameMismatchException("From date cannot be after to date.");
+        }
+
+        DatasetSnapshot current = snapshot;
+        RocketColumns rockets = current.rockets();
+        RocketReliabilityTable reliabilities = getRocketReliabilities(current, from, to);
+
+        BoundedRowHeap mostReliableRockets = mode.invoke(() -> mode.range(0, rockets.size())
+                .filter(row -> reliabilities.isUsed(rockets.name(row)))
+                .collect(() -> BoundedRowHeap.largest(n),
+                        (heap, row) -> heap.offer(reliabilities.reliability(rockets.name(row)), row),
+                        BoundedRowHeap::merge));
+
+        return rockets.rockets(mostReliableRockets.toSortedRows());
+    }
+
     @Override
     public void saveMostReliableRocket(OutputStream outputStream, LocalDate from, LocalDate to) throws CipherException {
 
@@ -251,56 +427,79 @@ public class MJTSpaceScanner implements SpaceScannerAPI {
             throw new TimeFrameMismatchException("From date cannot be after to date.");
         }
 
+        DatasetSnapshot current = snapshot;
+        RocketColumns rockets = current.rockets();
+
         Rijndael rijndael = new Rijndael(secretKey);
         if (rockets.isEmpty()) {
             rijndael.encrypt(new ByteArrayInputStream("".getBytes()), outputStream);
             return;
         }
 
-        Map<String, Integer> rocketRealibilities = getRocketRealibilities(from, to);
+        RocketReliabilityTable reliabilities = getRocketReliabilities(current, from, to);
 
-        String mostReliableRocketName = rocketRealibilities.entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .get()
-                .getKey();
+        int mostReliableRocket = rockets.rows()
+                .boxed()
+                .max(Comparator.comparingDouble(row -> reliabilities.reliability(rockets.name(row))))
+                .get();
+        String mostReliableRocketName = rockets.rocketNames().decode(rockets.name(mostReliableRocket));
 
         rijndael.encrypt(new ByteArrayInputStream(mostReliableRocketName.getBytes()), outputStream);
     }
 
-    private boolean isDateBetween(LocalDate date, LocalDate from, LocalDate to) {
-        return (date.isAfter(from) && date.isBefore(to)) ||
-                date.isEqual(from) || date.isEqual(to);
+    @Override
+    public void exportEncrypted(Function<SpaceScannerAPI, ?> query, OutputStream outputStream)
+            throws CipherException {
+        if (query == null || outputStream == null) {
+            throw new IllegalArgumentException("Input parameters are not valid.");
+        }
+
+        Object result = query.apply(this);
+
+        try (OutputStream encrypting = new Rijndael(secretKey).encrypting(outputStream)) {
+            new ResultWriter(encrypting).writeResult(result);
+        } catch (IOException e) {
+            throw new CipherException("Something went wrong with encrypting.", e);
+        }
+    }
+
+    private void publish() {
+        aggregator.update(liveMissions);
+
+        if (snapshot == null) {
+            snapshot = new DatasetSnapshot(0, liveMissions, liveRockets, aggregator.snapshot(), mode);
+        } else {
+            snapshot = snapshot.next(liveMissions, liveRockets, aggregator.snapshot());
+        }
     }
 
-    private Map<String, Integer> getRocketRealibilities(LocalDate from, LocalDate to) {
-        List<String> rocketNames = rockets.stream().map(Rocket::name).toList();
-        Map<String, Integer> rocketsSuccessfulMissions = new HashMap<>();
-        Map<String, Integer> rocketsAllMissions = new HashMap<>();
-        Map<String, Integer> rocketRealibilities = new HashMap<>();
-        rocketNames.forEach(name -> {
-            rocketsAllMissions.putIfAbsent(name, 0);
-            rocketsSuccessfulMissions.putIfAbsent(name, 0); });
-        missions.stream().filter(mission ->isDateBetween(mission.date(), from, to)).forEach(mission -> {
-            if (mission.missionStatus().equals(MissionStatus.SUCCESS)) {
-                rocketsSuccessfulMissions.put(mission.detail().rocketName(),
-                        rocketsSuccessfulMissions.get(mission.detail().rocketName()) + 1
-                );
-            }
-            rocketsAllMissions.put(mission.detail().rocketName(),
-                    rocketsAllMissions.get(mission.detail().rocketName()) + 1
-            );
-        });
-        rocketNames.forEach(name -> {
-            if (rocketsAllMissions.get(name) != 0) {
-                rocketRealibilities.put(name, ((2 * rocketsSuccessfulMissions.get(name)) +
-                        (rocketsAllMissions.get(name) - rocketsSuccessfulMissions.get(name))) /
-                        (2 * rocketsAllMissions.get(name))
-                );
-            } else {
-                rocketRealibilities.put(name, 0);
+    private boolean isMoreFrequentLocation(MissionDateIndex dateIndex, int[] countsPerPair, int pair, int otherPair) {
+        return countsPerPair[pair] > countsPerPair[otherPair] ||
+                countsPerPair[pair] == countsPerPair[otherPair] &&
+                        dateIndex.locationOfPair(pair) < dateIndex.locationOfPair(otherPair);
+    }
+
+    private RocketReliabilityTable getRocketReliabilities(DatasetSnapshot current, LocalDate from, LocalDate to) {
+        int rocketNamesCount = current.rockets().rocketNames().size();
+
+        if (current.aggregates().coversAllMissions(from, to)) {
+            return RocketReliabilityTable.of(current.aggregates(), rocketNamesCount);
+        }
+
+        return new RocketReliabilityTable(
+                Arrays.copyOf(current.dateIndex().successfulMissionsPerRocketName(from, to), rocketNamesCount),
+                Arrays.copyOf(current.dateIndex().missionsPerRocketName(from, to), rocketNamesCount)
+        );
+    }
+
+    private static int indexOfMax(int[] counts) {
+        int best = NO_KEY;
+        for (int key = 0; key < counts.length; key++) {
+            if (counts[key] > 0 && (best == NO_KEY || counts[key] > counts[best])) {
+                best = key;
             }
-        });
-        return rocketRealibilities;
+        }
+
+        return best;
     }
 }
@@ -8,11 +8,13 @@ import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
 import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
 
 import java.io.OutputStream;
+import java.io.Reader;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public interface SpaceScannerAPI {
     /**
@@ -44,6 +46,7 @@ public interface SpaceScannerAPI {
     /**
      * Groups missions by country.
      * If there are no missions, return an empty map.
+     * The returned map is unmodifiable.
      */
     Map<String, Collection<Mission>> getMissionsPerCountry();
 
@@ -61,6 +64,7 @@ public interface SpaceScannerAPI {
     /**
      * Returns the most desired location for missions per company.
      * If there are no missions, return an empty map.
+     * The returned map is unmodifiable.
      */
     Map<String, String> getMostDesiredLocationForMissionsPerCompany();
 
@@ -108,6 +112,31 @@ public interface SpaceScannerAPI {
     List<String> getWikiPagesForRocketsUsedInMostExpensiveMissions(int n, MissionStatus missionStatus,
                                                                    RocketStatus rocketStatus);
 
+    /**
+     * Returns the reliability of every rocket used in at least one mission in a given time period.
+     * The reliability of a rocket is (2 * successful missions + unsuccessful missions) / (2 * all missions).
+     * If there are no missions, return an empty map.
+     *
+     * @param from the inclusive beginning of the time frame
+     * @param to   the inclusive end of the time frame
+     * @throws IllegalArgumentException if from or to is null
+     * @throws TimeFrameMismatchException if to is before from
+     */
+    Map<String, Double> getReliabilityPerRocket(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the top N most reliable rockets used in at least one mission in a given time period,
+     * in decreasing order of reliability.
+     * If there are no such rockets, return an empty list.
+     *
+     * @param n    the number of rockets to be returned
+     * @param from the inclusive beginning of the time frame
+     * @param to   the inclusive end of the time frame
+     * @throws IllegalArgumentException if n is less than or equal to 0, or from or to is null
+     * @throws TimeFrameMismatchException if to is before from
+     */
+    List<Rocket> getTopNMostReliableRockets(int n, LocalDate from, LocalDate to);
+
     /**
      * Saves the name of the most reliable rocket in a given time period in an encrypted format.
      *
@@ -119,4 +148,36 @@ public interface SpaceScannerAPI {
      * @throws TimeFrameMismatchException if to is before from
      */
     void saveMostReliableRocket(OutputStream outputStream, LocalDate from, LocalDate to) throws CipherException;
+
+    /**
+     * Saves the result of a query in a compact binary format, encrypted while it is being written.
+     * Supported results are missions, rockets, strings, numbers, booleans, dates, optionals,
+     * and collections and maps of them. The result can be read back with ResultReader after decrypting.
+     *
+     * @param query        the query whose result is exported
+     * @param outputStream the output stream where the encrypted result is written into
+     * @throws IllegalArgumentException if query or outputStream is null, or the result contains unsupported values
+     * @throws CipherException if the encrypt operation cannot be completed successfully
+     */
+    void exportEncrypted(Function<SpaceScannerAPI, ?> query, OutputStream outputStream) throws CipherException;
+
+    /**
+     * Adds a mission to the dataset.
+     * Queries that are already running keep working with the dataset as it was before the addition.
+     *
+     * @param mission the mission to be added
+     * @throws IllegalArgumentException if mission is null
+     */
+    void addMission(Mission mission);
+
+    /**
+     * Appends the missions read from a reader to the dataset.
+     * The reader provides lines in the format of the missions file, without a header line.
+     * Either all missions are appended or, if reading fails, none of them.
+     *
+     * @param missionsReader the reader of the missions to be appended
+     * @throws IllegalArgumentException if missionsReader is null
+     * @throws java.io.UncheckedIOException if the missions cannot be read
+     */
+    void appendMissions(Reader missionsReader);
 }
\ No newline at end of file
@@ -0,0 +1,275 @@
+package bg.sofia.uni.fmi.mjt.space.algorithm;
+
+import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class CounterModeRijndael implements SymmetricBlockCipher {
+    private static final String ENCRYPTION_ALGORITHM = "AES/CTR/NoPadding";
+    private static final int BLOCK_SIZE = 16;
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+
+    private final SecretKey secretKey;
+    private final ForkJoinPool pool;
+    private final int segmentSize;
+    private final SecureRandom random;
+
+    public CounterModeRijndael(SecretKey secretKey) {
+        this(secretKey, ForkJoinPool.commonPool());
+    }
+
+    public CounterModeRijndael(SecretKey secretKey, ForkJoinPool pool) {
+        this(secretKey, pool, DEFAULT_SEGMENT_SIZE);
+    }
+
+    CounterModeRijndael(SecretKey secretKey, ForkJoinPool pool, int segmentSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null.");
+        }
+
+        if (segmentSize < BLOCK_SIZE || segmentSize % BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("Segment size is not a positive multiple of the block size.");
+        }
+
+        this.secretKey = secretKey;
+        this.pool = pool;
+        this.segmentSize = segmentSize;
+        this.random = new SecureRandom();
+    }
+
+    @Override
+    public void encrypt(InputStream inputStream, OutputStream outputStream) throws CipherException {
+        try (SegmentedOutputStream encrypting = startEncrypting(outputStream)) {
+            encrypting.readFrom(inputStream);
+        } catch (IOException e) {
+            throw new CipherException("Something went wrong with encrypting.", e);
+        }
+    }
+
+    @Override
+    public void decrypt(InputStream inputStream, OutputStream outputStream) throws CipherException {
+        try {
+            byte[] initialCounter = inputStream.readNBytes(BLOCK_SIZE);
+            if (initialCounter.length != BLOCK_SIZE) {
+                throw new EOFException("Input is shorter than the initial counter.");
+            }
+
+            try (SegmentedOutputStream decrypting = new SegmentedOutputStream(initialCounter, outputStream)) {
+                decrypting.readFrom(inputStream);
+            }
+        } catch (IOException e) {
+            throw new CipherException("Something went wrong with decrypting.", e);
+        }
+    }
+
+    @Override
+    public OutputStream encrypting(OutputStream outputStream) throws CipherException {
+        try {
+            return startEncrypting(outputStream);
+        } catch (IOException e) {
+            throw new CipherException("Something went wrong with encrypting.", e);
+        }
+    }
+
+    private SegmentedOutputStream startEncrypting(OutputStream outputStream) throws IOException {
+        byte[] initialCounter = new byte[BLOCK_SIZE];
+        random.nextBytes(initialCounter);
+        outputStream.write(initialCounter);
+
+        return new SegmentedOutputStream(initialCounter, outputStream);
+    }
+
+    private void invokeAll(List<Callable<Void>> tasks) throws IOException {
+        if (tasks.size() == 1) {
+            call(tasks.getFirst());
+            return;
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Transforming was interrupted.");
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case IOException cause -> throw cause;
+                case RuntimeException cause -> throw cause;
+                default -> throw new IOException("Something went wrong when transforming a segment.", e.getCause());
+            }
+        }
+    }
+
+    private static void call(Callable<Void> task) throws IOException {
+        try {
+            task.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Something went wrong when transforming a segment.", e);
+        }
+    }
+
+    private static Cipher cipher() throws GeneralSecurityException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+            CIPHERS.set(cipher);
+        }
+
+        return cipher;
+    }
+
+    private static byte[] addBlocks(byte[] counter, long blocks) {
+        byte[] result = counter.clone();
+
+        long carry = blocks;
+        for (int i = result.length - 1; i >= 0 && carry != 0; i--) {
+            long sum = (result[i] & 0xFF) + (carry & 0xFF);
+            result[i] = (byte) sum;
+            carry = (carry >>> Byte.SIZE) + (sum >>> Byte.SIZE);
+        }
+
+        return result;
+    }
+
+    private final class SegmentedOutputStream extends OutputStream {
+        private final byte[] initialCounter;
+        private final OutputStream outputStream;
+        private final byte[][] inputs;
+        private final byte[][] outputs;
+        private final int capacity;
+
+        private int size;
+        private long blockOffset;
+        private boolean isClosed;
+
+        private SegmentedOutputStream(byte[] initialCounter, OutputStream outputStream) {
+            int segmentsPerBatch = pool.getParallelism();
+
+            this.initialCounter = initialCounter;
+            this.outputStream = outputStream;
+            this.inputs = new byte[segmentsPerBatch][segmentSize];
+            this.outputs = new byte[segmentsPerBatch][segmentSize];
+            this.capacity = segmentsPerBatch * segmentSize;
+            this.size = 0;
+            this.blockOffset = 0;
+            this.isClosed = false;
+        }
+
+        private void readFrom(InputStream inputStream) throws IOException {
+            checkOpen();
+
+            while (true) {
+                int offset = size % segmentSize;
+                int bytesRead = inputStream.read(inputs[size / segmentSize], offset, segmentSize - offset);
+                if (bytesRead == -1) {
+                    return;
+                }
+
+                size += bytesRead;
+                if (size == capacity) {
+                    transformBatch();
+                }
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkOpen();
+
+            inputs[size / segmentSize][size % segmentSize] = (byte) b;
+            if (++size == capacity) {
+                transformBatch();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            checkOpen();
+
+            for (int written = 0; written < length; ) {
+                int segmentOffset = size % segmentSize;
+                int copied = Math.min(length - written, segmentSize - segmentOffset);
+                System.arraycopy(bytes, offset + written, inputs[size / segmentSize], segmentOffset, copied);
+
+                written += copied;
+                size += copied;
+                if (size == capacity) {
+                    transformBatch();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+
+            transformBatch();
+            outputStream.flush();
+        }
+
+        private void checkOpen() throws IOException {
+            if (isClosed) {
+                throw new IOException("Stream is closed.");
+            }
+        }
+
+        private void transformBatch() throws IOException {
+            int segments = (size + segmentSize - 1) / segmentSize;
+            int blocksPerSegment = segmentSize / BLOCK_SIZE;
+
+            List<Callable<Void>> tasks = new ArrayList<>(segments);
+            for (int segment = 0; segment < segments; segment++) {
+                byte[] counter = addBlocks(initialCounter, blockOffset + (long) segment * blocksPerSegment);
+                byte[] input = inputs[segment];
+                byte[] output = outputs[segment];
+                int length = segmentLength(segment);
+
+                tasks.add(() -> {
+                    try {
+                        Cipher cipher = cipher();
+                        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(counter));
+                        cipher.doFinal(input, 0, length, output, 0);
+                    } catch (GeneralSecurityException e) {
+                        throw new IOException("Something went wrong when transforming a segment.", e);
+                    }
+
+                    return null;
+                });
+            }
+
+            invokeAll(tasks);
+
+            for (int segment = 0; segment < segments; segment++) {
+                outputStream.write(outputs[segment], 0, segmentLength(segment));
+            }
+            blockOffset += (long) segments * blocksPerSegment;
+            size = 0;
+        }
+
+        private int segmentLength(int segment) {
+            return Math.min(segmentSize, size - segment * segmentSize);
+        }
+    }
+}
@@ -3,43 +3,30 @@ package bg.sofia.uni.fmi.mjt.space.algorithm;
 import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
 
 import javax.crypto.Cipher;
-import javax.crypto.CipherOutputStream;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 
 public class Rijndael implements SymmetricBlockCipher {
-    private SecretKey secretKey;
-    private Cipher cipher;
     private static final String ENCRYPTION_ALGORITHM = "AES";
+    private static final int BLOCK_SIZE = 16;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+
+    private final SecretKey secretKey;
 
     public Rijndael(SecretKey secretKey) {
         this.secretKey = secretKey;
-
     }
 
     @Override
     public void encrypt(InputStream inputStream, OutputStream outputStream) throws CipherException {
         try {
-            cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-
-            try (var cipherOutputStream = new CipherOutputStream(outputStream, cipher)) {
-                byte[] buffer = inputStream.readAllBytes();
-
-                for (int bytesRead: buffer) {
-                    cipherOutputStream.write(bytesRead);
-                    cipherOutputStream.flush();
-                }
-            }
-        } catch (IOException |
-                NoSuchAlgorithmException |
-                NoSuchPaddingException |
-                InvalidKeyException e) {
+            transform(Cipher.ENCRYPT_MODE, inputStream, outputStream);
+        } catch (IOException | GeneralSecurityException e) {
             throw new CipherException("Something went wrong with encrypting.", e);
         }
     }
@@ -47,22 +34,97 @@ public class Rijndael implements SymmetricBlockCipher {
     @Override
     public void decrypt(InputStream inputStream, OutputStream outputStream) throws CipherException {
         try {
+            transform(Cipher.DECRYPT_MODE, inputStream, outputStream);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new CipherException("Something went wrong with decrypting.", e);
+        }
+    }
+
+    @Override
+    public OutputStream encrypting(OutputStream outputStream) throws CipherException {
+        try {
+            Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+
+            return new BufferedOutputStream(new TransformingOutputStream(cipher, outputStream), BUFFER_SIZE);
+        } catch (GeneralSecurityException e) {
+            throw new CipherException("Something went wrong with encrypting.", e);
+        }
+    }
+
+    private void transform(int mode, InputStream inputStream, OutputStream outputStream)
+            throws IOException, GeneralSecurityException {
+        Cipher cipher = cipher();
+        cipher.init(mode, secretKey);
+
+        byte[] input = new byte[BUFFER_SIZE];
+        try (OutputStream transforming = new TransformingOutputStream(cipher, outputStream)) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(input)) != -1) {
+                transforming.write(input, 0, bytesRead);
+            }
+        }
+    }
+
+    private Cipher cipher() throws GeneralSecurityException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
             cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            CIPHERS.set(cipher);
+        }
+
+        return cipher;
+    }
+
+    private static final class TransformingOutputStream extends OutputStream {
+        private final Cipher cipher;
+        private final OutputStream outputStream;
+        private final byte[] output;
+        private boolean isClosed;
+
+        private TransformingOutputStream(Cipher cipher, OutputStream outputStream) {
+            this.cipher = cipher;
+            this.outputStream = outputStream;
+            this.output = new byte[BUFFER_SIZE + 2 * BLOCK_SIZE];
+            this.isClosed = false;
+        }
 
-            try (var cipherOutputStream = new CipherOutputStream(outputStream, cipher)) {
-                byte[] buffer = inputStream.readAllBytes();
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
 
-                for (int bytesRead: buffer) {
-                    cipherOutputStream.write(bytesRead);
-                    cipherOutputStream.flush();
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (isClosed) {
+                throw new IOException("Stream is closed.");
+            }
+
+            try {
+                for (int written = 0; written < length; written += BUFFER_SIZE) {
+                    int chunkLength = Math.min(BUFFER_SIZE, length - written);
+                    int bytesTransformed = cipher.update(bytes, offset + written, chunkLength, output);
+                    outputStream.write(output, 0, bytesTransformed);
                 }
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Something went wrong when transforming bytes.", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+
+            try {
+                int bytesTransformed = cipher.doFinal(output, 0);
+                outputStream.write(output, 0, bytesTransformed);
+                outputStream.flush();
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Something went wrong when transforming bytes.", e);
             }
-        } catch (IOException |
-                 NoSuchAlgorithmException |
-                 NoSuchPaddingException |
-                 InvalidKeyException e) {
-            throw new CipherException("Something went wrong with decrypting.", e);
         }
     }
 }
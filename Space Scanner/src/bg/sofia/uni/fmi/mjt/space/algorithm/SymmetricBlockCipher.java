@@ -23,4 +23,13 @@ public interface SymmetricBlockCipher {
      * @throws CipherException if the encrypt/decrypt operation cannot be completed successfully
      */
     void decrypt(InputStream inputStream, OutputStream outputStream) throws CipherException;
+
+    /**
+     * Returns a stream that encrypts the data written into it and puts it into outputStream.
+     * Closing the returned stream completes the encryption and flushes outputStream without closing it.
+     *
+     * @param outputStream the output stream where the encrypted result is written into
+     * @throws CipherException if the encrypt operation cannot be started
+     */
+    OutputStream encrypting(OutputStream outputStream) throws CipherException;
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package bg.sofia.uni.fmi.mjt.space.export;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Detail;
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class ResultReader {
+    private static final int MAX_VARINT_SHIFT = 63;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+
+    private final DataInputStream inputStream;
+
+    public ResultReader(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("Input stream is null.");
+        }
+
+        this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+    }
+
+    public Object readResult() throws IOException {
+        if (inputStream.readInt() != ResultWriter.MAGIC) {
+            throw new StreamCorruptedException("Input is not an exported result.");
+        }
+
+        byte version = inputStream.readByte();
+        if (version != ResultWriter.VERSION) {
+            throw new StreamCorruptedException("Unsupported export version " + version + ".");
+        }
+
+        return readValue();
+    }
+
+    private Object readValue() throws IOException {
+        return switch (ValueType.ofTag(inputStream.readUnsignedByte())) {
+            case NULL -> null;
+            case BOOLEAN -> inputStream.readBoolean();
+            case INTEGER -> Math.toIntExact(readSignedVarLong());
+            case LONG -> readSignedVarLong();
+            case DOUBLE -> inputStream.readDouble();
+            case STRING -> readString();
+            case DATE -> LocalDate.ofEpochDay(readSignedVarLong());
+            case OPTIONAL -> inputStream.readBoolean() ? Optional.of(readValue()) : Optional.empty();
+            case LIST -> readList();
+            case SET -> readSet();
+            case MAP -> readMap();
+            case MISSION -> readMission();
+            case ROCKET -> readRocket();
+        };
+    }
+
+    private List<Object> readList() throws IOException {
+        int size = readSize();
+
+        List<Object> list = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            list.add(readValue());
+        }
+
+        return list;
+    }
+
+    private Set<Object> readSet() throws IOException {
+        int size = readSize();
+
+        Set<Object> set = HashSet.newHashSet(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            set.add(readValue());
+        }
+
+        return set;
+    }
+
+    private Map<Object, Object> readMap() throws IOException {
+        int size = readSize();
+
+        Map<Object, Object> map = HashMap.newHashMap(Math.min(size, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            Object key = readValue();
+            map.put(key, readValue());
+        }
+
+        return map;
+    }
+
+    private Mission readMission() throws IOException {
+        String id = readString();
+        String company = readString();
+        String location = readString();
+        LocalDate date = LocalDate.ofEpochDay(readSignedVarLong());
+        Detail detail = new Detail(readString(), readString());
+        RocketStatus rocketStatus = readStatus(ROCKET_STATUSES);
+        MissionStatus missionStatus = readStatus(MISSION_STATUSES);
+        Optional<Double> cost = inputStream.readBoolean() ? Optional.of(inputStream.readDouble()) : Optional.empty();
+
+        return new Mission(id, company, location, date, detail, rocketStatus, cost, missionStatus);
+    }
+
+    private Rocket readRocket() throws IOException {
+        String id = readString();
+        String name = readString();
+        Optional<String> wiki = inputStream.readBoolean() ? Optional.of(readString()) : Optional.empty();
+        Optional<Double> height = inputStream.readBoolean() ? Optional.of(inputStream.readDouble()) : Optional.empty();
+
+        return new Rocket(id, name, wiki, height);
+    }
+
+    private <T> T readStatus(T[] statuses) throws IOException {
+        int ordinal = inputStream.readUnsignedByte();
+        if (ordinal >= statuses.length) {
+            throw new StreamCorruptedException("Unknown status " + ordinal + ".");
+        }
+
+        return statuses[ordinal];
+    }
+
+    private String readString() throws IOException {
+        int size = readSize();
+        byte[] bytes = inputStream.readNBytes(size);
+        if (bytes.length != size) {
+            throw new StreamCorruptedException("String of size " + size + " is longer than the remaining input.");
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readSize() throws IOException {
+        long size = readVarLong();
+        if (size > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Size " + size + " is too large.");
+        }
+
+        return (int) size;
+    }
+
+    private long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += 7) {
+            int b = inputStream.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new StreamCorruptedException("Variable-length number is too long.");
+    }
+}
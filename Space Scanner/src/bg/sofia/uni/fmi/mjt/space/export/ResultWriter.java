@@ -0,0 +1,232 @@
+package bg.sofia.uni.fmi.mjt.space.export;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class ResultWriter {
+    static final int MAGIC = 0x4D4A5453;
+    static final byte VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final int MAX_VARINT_SIZE = 10;
+    private static final int MAX_CHAR_SIZE = 3;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int position;
+
+    public ResultWriter(OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Output stream is null.");
+        }
+
+        this.outputStream = outputStream;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.position = 0;
+    }
+
+    public void writeResult(Object result) throws IOException {
+        writeInt(MAGIC);
+        ensureSpace(1);
+        buffer[position++] = VERSION;
+
+        writeValue(result);
+        flush();
+    }
+
+    public void flush() throws IOException {
+        outputStream.write(buffer, 0, position);
+        position = 0;
+        outputStream.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        switch (value) {
+            case null -> writeTag(ValueType.NULL);
+            case Boolean bool -> {
+                writeTag(ValueType.BOOLEAN);
+                writeByte(bool ? 1 : 0);
+            }
+            case Integer integer -> {
+                writeTag(ValueType.INTEGER);
+                writeSignedVarLong(integer);
+            }
+            case Long number -> {
+                writeTag(ValueType.LONG);
+                writeSignedVarLong(number);
+            }
+            case Double number -> {
+                writeTag(ValueType.DOUBLE);
+                writeDouble(number);
+            }
+            case String string -> {
+                writeTag(ValueType.STRING);
+                writeString(string);
+            }
+            case LocalDate date -> {
+                writeTag(ValueType.DATE);
+                writeSignedVarLong(date.toEpochDay());
+            }
+            case Optional<?> optional -> {
+                writeTag(ValueType.OPTIONAL);
+                writeByte(optional.isPresent() ? 1 : 0);
+                if (optional.isPresent()) {
+                    writeValue(optional.get());
+                }
+            }
+            case Collection<?> collection -> writeCollection(collection);
+            case Map<?, ?> map -> writeMap(map);
+            case Mission mission -> writeMission(mission);
+            case Rocket rocket -> writeRocket(rocket);
+            default -> throw new IllegalArgumentException(
+                    "Value of type " + value.getClass().getName() + " cannot be exported.");
+        }
+    }
+
+    private void writeCollection(Collection<?> collection) throws IOException {
+        writeTag(collection instanceof Set<?> ? ValueType.SET : ValueType.LIST);
+        writeVarLong(collection.size());
+
+        for (Object element : collection) {
+            writeValue(element);
+        }
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        writeTag(ValueType.MAP);
+        writeVarLong(map.size());
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    private void writeMission(Mission mission) throws IOException {
+        writeTag(ValueType.MISSION);
+        writeString(mission.id());
+        writeString(mission.company());
+        writeString(mission.location());
+        writeSignedVarLong(mission.date().toEpochDay());
+        writeString(mission.detail().rocketName());
+        writeString(mission.detail().payload());
+        writeByte(mission.rocketStatus().ordinal());
+        writeByte(mission.missionStatus().ordinal());
+        writeByte(mission.cost().isPresent() ? 1 : 0);
+        if (mission.cost().isPresent()) {
+            writeDouble(mission.cost().get());
+        }
+    }
+
+    private void writeRocket(Rocket rocket) throws IOException {
+        writeTag(ValueType.ROCKET);
+        writeString(rocket.id());
+        writeString(rocket.name());
+        writeByte(rocket.wiki().isPresent() ? 1 : 0);
+        if (rocket.wiki().isPresent()) {
+            writeString(rocket.wiki().get());
+        }
+        writeByte(rocket.height().isPresent() ? 1 : 0);
+        if (rocket.height().isPresent()) {
+            writeDouble(rocket.height().get());
+        }
+    }
+
+    private void writeTag(ValueType type) throws IOException {
+        writeByte(type.tag());
+    }
+
+    private void writeByte(int value) throws IOException {
+        ensureSpace(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeInt(int value) throws IOException {
+        ensureSpace(Integer.BYTES);
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToLongBits(value);
+
+        ensureSpace(Long.BYTES);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+    }
+
+    private void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> (Long.SIZE - 1)));
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        ensureSpace(MAX_VARINT_SIZE);
+
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[position++] = (byte) remaining;
+    }
+
+    private void writeString(String string) throws IOException {
+        int length = string.length();
+        long encodedLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+            if (c < 0x80) {
+                encodedLength += 1;
+            } else if (c < 0x800) {
+                encodedLength += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                encodedLength += 4;
+                i++;
+            } else {
+                encodedLength += MAX_CHAR_SIZE;
+            }
+        }
+        writeVarLong(encodedLength);
+
+        for (int i = 0; i < length; i++) {
+            ensureSpace(Integer.BYTES);
+
+            char c = string.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | c >>> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | codePoint >>> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >>> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >>> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                buffer[position++] = (byte) (0xE0 | c >>> 12);
+                buffer[position++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private void ensureSpace(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package bg.sofia.uni.fmi.mjt.space.export;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+enum ValueType {
+    NULL,
+    BOOLEAN,
+    INTEGER,
+    LONG,
+    DOUBLE,
+    STRING,
+    DATE,
+    OPTIONAL,
+    LIST,
+    SET,
+    MAP,
+    MISSION,
+    ROCKET;
+
+    private static final ValueType[] VALUES = values();
+
+    byte tag() {
+        return (byte) ordinal();
+    }
+
+    static ValueType ofTag(int tag) throws IOException {
+        if (tag < 0 || tag >= VALUES.length) {
+            throw new StreamCorruptedException("Unknown value tag " + tag + ".");
+        }
+
+        return VALUES[tag];
+    }
+}
@@ -1,17 +1,13 @@
 package bg.sofia.uni.fmi.mjt.space.mission;
 
-import bg.sofia.uni.fmi.mjt.space.utils.CSVSpliter;
-
-import java.util.List;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVTokenizer;
 
 public record Detail(String rocketName, String payload) {
     private static final char DATA_DELIMITER = '|';
-    private static final int ROCKET_NAME_INDEX = 0;
-    private static final int PAYLOAD_INDEX = 1;
 
     public static Detail of(String line) {
-        List<String> data = CSVSpliter.splitCSV(line, DATA_DELIMITER);
+        CSVTokenizer tokenizer = new CSVTokenizer(DATA_DELIMITER).reset(line);
 
-        return new Detail(data.get(ROCKET_NAME_INDEX), data.get(PAYLOAD_INDEX));
+        return new Detail(tokenizer.nextField().field(), tokenizer.nextField().field());
     }
 }
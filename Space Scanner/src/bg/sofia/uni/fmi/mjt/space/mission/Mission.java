@@ -1,11 +1,9 @@
 package bg.sofia.uni.fmi.mjt.space.mission;
 
 import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
-import bg.sofia.uni.fmi.mjt.space.utils.CSVSpliter;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVTokenizer;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Optional;
 
 public record Mission(
@@ -18,32 +16,21 @@ public record Mission(
         Optional<Double> cost,
         MissionStatus missionStatus
 ) {
-    private static final String DATE_FORMAT = "EEE MMM dd, yyyy";
     private static final char DATA_DELIMITER = ',';
-    private static final int ID_INDEX = 0;
-    private static final int COMPANY_INDEX = 1;
-    private static final int LOCATION_INDEX = 2;
-    private static final int DATE_INDEX = 3;
-    private static final int DETAIL_INDEX = 4;
-    private static final int ROCKET_STATUS_INDEX = 5;
-    private static final int COST_INDEX = 6;
-    private static final int MISSION_STATUS_INDEX = 7;
 
     public static Mission of(String line) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_FORMAT);
-
-        List<String> data = CSVSpliter.splitCSV(line, DATA_DELIMITER);
+        CSVTokenizer tokenizer = new CSVTokenizer(DATA_DELIMITER).reset(line);
 
         return new Mission(
-                data.get(ID_INDEX),
-                data.get(COMPANY_INDEX),
-                data.get(LOCATION_INDEX),
-                LocalDate.parse(data.get(DATE_INDEX), formatter),
-                Detail.of(data.get(DETAIL_INDEX)),
-                RocketStatus.fromValue(data.get(ROCKET_STATUS_INDEX)),
-                data.get(COST_INDEX).isBlank() ?
-                        Optional.empty() : Optional.of(Double.parseDouble(data.get(COST_INDEX).replaceAll(",", ""))),
-                MissionStatus.fromValue(data.get(MISSION_STATUS_INDEX))
+                tokenizer.nextField().field(),
+                tokenizer.nextField().field(),
+                tokenizer.nextField().field(),
+                LocalDate.ofEpochDay(tokenizer.nextField().fieldAsEpochDay()),
+                Detail.of(tokenizer.nextField().field()),
+                RocketStatus.fromValue(tokenizer.nextField().field()),
+                tokenizer.nextField().isFieldBlank() ?
+                        Optional.empty() : Optional.of(tokenizer.fieldAsDouble()),
+                MissionStatus.fromValue(tokenizer.nextField().field())
         );
     }
 }
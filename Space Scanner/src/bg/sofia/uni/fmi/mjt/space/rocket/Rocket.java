@@ -1,8 +1,7 @@
 package bg.sofia.uni.fmi.mjt.space.rocket;
 
-import bg.sofia.uni.fmi.mjt.space.utils.CSVSpliter;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVTokenizer;
 
-import java.util.List;
 import java.util.Optional;
 
 public record Rocket(
@@ -12,24 +11,17 @@ public record Rocket(
         Optional<Double> height
 ) {
     private static final char DATA_DELIMITER = ',';
-    private static final int ID_INDEX = 0;
-    private static final int NAME_INDEX = 1;
-    private static final int WIKI_INDEX = 2;
-    private static final int HEIGHT_INDEX = 3;
 
     public static Rocket of(String line) {
-        List<String> data = CSVSpliter.splitCSV(line, DATA_DELIMITER);
+        CSVTokenizer tokenizer = new CSVTokenizer(DATA_DELIMITER).reset(line);
 
         return new Rocket(
-                data.get(ID_INDEX),
-                data.get(NAME_INDEX),
-                data.get(WIKI_INDEX).isBlank() ?
-                        Optional.empty() : Optional.of(data.get(WIKI_INDEX)),
-                data.get(HEIGHT_INDEX).isBlank() ? Optional.empty() : Optional.of(
-                        Double.parseDouble(
-                                CSVSpliter.splitCSV(data.get(HEIGHT_INDEX), ' ').get(0).replaceAll(",", "")
-                        )
-                )
+                tokenizer.nextField().field(),
+                tokenizer.nextField().field(),
+                tokenizer.nextField().isFieldBlank() ?
+                        Optional.empty() : Optional.of(tokenizer.field()),
+                tokenizer.nextField().isFieldBlank() ?
+                        Optional.empty() : Optional.of(tokenizer.fieldAsDouble())
         );
     }
 }
@@ -0,0 +1,149 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.util.Arrays;
+
+public class BoundedRowHeap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int capacity;
+    private final boolean isKeyDescending;
+    private final boolean isRowDescending;
+
+    private double[] keys;
+    private int[] rows;
+    private int size;
+
+    public BoundedRowHeap(int capacity, boolean isKeyDescending, boolean isRowDescending) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity is less than 1.");
+        }
+
+        this.capacity = capacity;
+        this.isKeyDescending = isKeyDescending;
+        this.isRowDescending = isRowDescending;
+
+        this.keys = new double[Math.min(capacity, INITIAL_CAPACITY)];
+        this.rows = new int[keys.length];
+        this.size = 0;
+    }
+
+    private BoundedRowHeap(BoundedRowHeap source, double[] keys, int[] rows) {
+        this.capacity = source.capacity;
+        this.isKeyDescending = source.isKeyDescending;
+        this.isRowDescending = source.isRowDescending;
+        this.keys = keys;
+        this.rows = rows;
+        this.size = keys.length;
+    }
+
+    public static BoundedRowHeap smallest(int capacity) {
+        return new BoundedRowHeap(capacity, false, false);
+    }
+
+    public static BoundedRowHeap largest(int capacity) {
+        return new BoundedRowHeap(capacity, true, false);
+    }
+
+    public void offer(double key, int row) {
+        if (size < capacity) {
+            if (size == keys.length) {
+                int grownCapacity = (int) Math.min(capacity, (long) size * 2);
+                keys = Arrays.copyOf(keys, grownCapacity);
+                rows = Arrays.copyOf(rows, grownCapacity);
+            }
+
+            keys[size] = key;
+            rows[size] = row;
+            siftUp(size++);
+        } else if (precedes(key, row, keys[0], rows[0])) {
+            keys[0] = key;
+            rows[0] = row;
+            siftDown(0, size);
+        }
+    }
+
+    public void merge(BoundedRowHeap other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Heap is null.");
+        }
+
+        for (int i = 0; i < other.size; i++) {
+            offer(other.keys[i], other.rows[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int[] toSortedRows() {
+        double[] sortedKeys = Arrays.copyOf(keys, size);
+        int[] sortedRows = Arrays.copyOf(rows, size);
+        BoundedRowHeap sorted = new BoundedRowHeap(this, sortedKeys, sortedRows);
+
+        for (int end = size - 1; end > 0; end--) {
+            sorted.swap(0, end);
+            sorted.siftDown(0, end);
+        }
+
+        return sortedRows;
+    }
+
+    private boolean precedes(double key, int row, double otherKey, int otherRow) {
+        int keyComparison = isKeyDescending ? Double.compare(otherKey, key) : Double.compare(key, otherKey);
+        if (keyComparison != 0) {
+            return keyComparison < 0;
+        }
+
+        return isRowDescending ? row > otherRow : row < otherRow;
+    }
+
+    private boolean precedes(int i, int j) {
+        return precedes(keys[i], rows[i], keys[j], rows[j]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!precedes(parent, i)) {
+                return;
+            }
+
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int end) {
+        while (true) {
+            int worst = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+
+            if (left < end && precedes(worst, left)) {
+                worst = left;
+            }
+
+            if (right < end && precedes(worst, right)) {
+                worst = right;
+            }
+
+            if (worst == i) {
+                return;
+            }
+
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+    }
+}
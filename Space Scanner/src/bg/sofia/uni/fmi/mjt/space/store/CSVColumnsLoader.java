@@ -0,0 +1,89 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+import bg.sofia.uni.fmi.mjt.space.utils.CSVTokenizer;
+
+import java.io.IOException;
+
+public class CSVColumnsLoader {
+    private static final char DATA_DELIMITER = ',';
+    private static final char DETAIL_DELIMITER = '|';
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+
+    private final CSVTokenizer record;
+    private final CSVTokenizer detail;
+
+    public CSVColumnsLoader() {
+        this.record = new CSVTokenizer(DATA_DELIMITER);
+        this.detail = new CSVTokenizer(DETAIL_DELIMITER);
+    }
+
+    public void loadMissions(CSVRecordReader records, MissionColumns missions) throws IOException {
+        records.skipRecord();
+        appendMissions(records, missions);
+    }
+
+    public void loadRockets(CSVRecordReader records, RocketColumns rockets) throws IOException {
+        records.skipRecord();
+        appendRockets(records, rockets);
+    }
+
+    public void appendMissions(CSVRecordReader records, MissionColumns missions) throws IOException {
+        while (records.nextRecord(record)) {
+            appendMission(missions);
+        }
+    }
+
+    public void appendRockets(CSVRecordReader records, RocketColumns rockets) throws IOException {
+        while (records.nextRecord(record)) {
+            appendRocket(rockets);
+        }
+    }
+
+    private void appendMission(MissionColumns missions) {
+        String id = record.nextField().field();
+        int company = encode(record.nextField(), missions.companies());
+        int location = encode(record.nextField(), missions.locations());
+        int epochDay = Math.toIntExact(record.nextField().fieldAsEpochDay());
+
+        record.nextField();
+        detail.reset(record.buffer(), record.fieldStart(), record.fieldEnd());
+        int rocketName = encode(detail.nextField(), missions.rocketNames());
+        String payload = detail.nextField().field();
+
+        RocketStatus rocketStatus = decode(record.nextField(), ROCKET_STATUSES);
+        boolean hasCost = !record.nextField().isFieldBlank();
+        double cost = hasCost ? record.fieldAsDouble() : 0.0;
+        MissionStatus missionStatus = decode(record.nextField(), MISSION_STATUSES);
+
+        missions.append(id, company, location, epochDay, rocketName, payload,
+                rocketStatus, hasCost, cost, missionStatus);
+    }
+
+    private void appendRocket(RocketColumns rockets) {
+        String id = record.nextField().field();
+        int name = encode(record.nextField(), rockets.rocketNames());
+        String wiki = record.nextField().isFieldBlank() ? null : record.field();
+        boolean hasHeight = !record.nextField().isFieldBlank();
+        double height = hasHeight ? record.fieldAsDouble() : 0.0;
+
+        rockets.append(id, name, wiki, hasHeight, height);
+    }
+
+    private static int encode(CSVTokenizer field, StringDictionary dictionary) {
+        return dictionary.encode(field.buffer(), field.fieldStart(), field.fieldEnd());
+    }
+
+    private static <E extends Enum<E>> E decode(CSVTokenizer field, E[] values) {
+        for (E value : values) {
+            if (field.fieldEquals(value.toString())) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Value doesn't match.");
+    }
+}
@@ -0,0 +1,159 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DatasetSnapshot {
+    private static final int NO_KEY = -1;
+
+    private final long epoch;
+    private final MissionColumns missions;
+    private final RocketColumns rockets;
+    private final MissionAggregates aggregates;
+    private final ExecutionMode mode;
+
+    private volatile MissionDateIndex dateIndex;
+    private volatile MissionCostIndex costIndex;
+    private volatile MissionDateIndex previousDateIndex;
+    private volatile MissionCostIndex previousCostIndex;
+    private volatile Map<String, Collection<Mission>> missionsPerCountry;
+    private volatile Map<String, String> mostDesiredLocationPerCompany;
+
+    public DatasetSnapshot(long epoch, MissionColumns missions, RocketColumns rockets, MissionAggregates aggregates) {
+        this(epoch, missions, rockets, aggregates, ExecutionMode.sequential());
+    }
+
+    public DatasetSnapshot(long epoch, MissionColumns missions, RocketColumns rockets, MissionAggregates aggregates,
+                           ExecutionMode mode) {
+        if (missions == null || rockets == null || aggregates == null || mode == null) {
+            throw new IllegalArgumentException("Snapshot data is null.");
+        }
+
+        this.epoch = epoch;
+        this.missions = missions.snapshot();
+        this.rockets = rockets.snapshot();
+        this.aggregates = aggregates;
+        this.mode = mode;
+    }
+
+    public DatasetSnapshot next(MissionColumns missions, RocketColumns rockets, MissionAggregates aggregates) {
+        DatasetSnapshot next = new DatasetSnapshot(epoch + 1, missions, rockets, aggregates, mode);
+
+        MissionDateIndex builtDateIndex = dateIndex;
+        next.previousDateIndex = builtDateIndex != null ? builtDateIndex : previousDateIndex;
+        MissionCostIndex builtCostIndex = costIndex;
+        next.previousCostIndex = builtCostIndex != null ? builtCostIndex : previousCostIndex;
+
+        return next;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public MissionColumns missions() {
+        return missions;
+    }
+
+    public RocketColumns rockets() {
+        return rockets;
+    }
+
+    public MissionAggregates aggregates() {
+        return aggregates;
+    }
+
+    public ExecutionMode mode() {
+        return mode;
+    }
+
+    public MissionDateIndex dateIndex() {
+        MissionDateIndex index = dateIndex;
+        if (index == null) {
+            MissionDateIndex previous = previousDateIndex;
+            if (previous == null) {
+                index = mode.invoke(() -> new MissionDateIndex(missions, mode));
+            } else {
+                index = mode.invoke(() -> previous.extendedWith(missions, mode));
+            }
+            dateIndex = index;
+            previousDateIndex = null;
+        }
+
+        return index;
+    }
+
+    public MissionCostIndex costIndex() {
+        MissionCostIndex index = costIndex;
+        if (index == null) {
+            MissionCostIndex previous = previousCostIndex;
+            if (previous == null) {
+                index = mode.invoke(() -> new MissionCostIndex(missions, mode));
+            } else {
+                index = previous.extendedWith(missions);
+            }
+            costIndex = index;
+            previousCostIndex = null;
+        }
+
+        return index;
+    }
+
+    public Map<String, Collection<Mission>> missionsPerCountry() {
+        Map<String, Collection<Mission>> groups = missionsPerCountry;
+        if (groups == null) {
+            groups = mode.invoke(this::groupMissionsPerCountry);
+            missionsPerCountry = groups;
+        }
+
+        return groups;
+    }
+
+    public Map<String, String> mostDesiredLocationPerCompany() {
+        Map<String, String> locations = mostDesiredLocationPerCompany;
+        if (locations == null) {
+            locations = findMostDesiredLocationPerCompany();
+            mostDesiredLocationPerCompany = locations;
+        }
+
+        return locations;
+    }
+
+    private Map<String, Collection<Mission>> groupMissionsPerCountry() {
+        StringDictionary countries = aggregates.countries();
+
+        Map<String, Collection<Mission>> groups = mode.range(0, countries.size())
+                .boxed()
+                .collect(Collectors.toMap(countries::decode, this::missionsOfCountry, (left, right) -> left,
+                        () -> HashMap.newHashMap(countries.size())));
+
+        return Collections.unmodifiableMap(groups);
+    }
+
+    private Collection<Mission> missionsOfCountry(int country) {
+        Set<Mission> countryMissions = aggregates.rowsOfCountry(country)
+                .mapToObj(missions::mission)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        return Collections.unmodifiableSet(countryMissions);
+    }
+
+    private Map<String, String> findMostDesiredLocationPerCompany() {
+        Map<String, String> locations = new HashMap<>();
+        for (int company = 0; company < aggregates.companiesCount(); company++) {
+            int location = aggregates.mostFrequentLocation(company);
+            if (location != NO_KEY) {
+                locations.put(missions.companies().decode(company), missions.locations().decode(location));
+            }
+        }
+
+        return Collections.unmodifiableMap(locations);
+    }
+}
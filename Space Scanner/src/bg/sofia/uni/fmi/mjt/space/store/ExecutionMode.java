@@ -0,0 +1,59 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public final class ExecutionMode {
+    private static final ExecutionMode SEQUENTIAL = new ExecutionMode(null);
+
+    private final ForkJoinPool pool;
+
+    private ExecutionMode(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static ExecutionMode sequential() {
+        return SEQUENTIAL;
+    }
+
+    public static ExecutionMode parallel(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null.");
+        }
+
+        return new ExecutionMode(pool);
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public ForkJoinPool pool() {
+        return isParallel() ? pool : ForkJoinPool.commonPool();
+    }
+
+    public <T> T invoke(Supplier<T> task) {
+        if (!isParallel() || ForkJoinTask.getPool() == pool) {
+            return task.get();
+        }
+
+        return pool.submit(task::get).join();
+    }
+
+    public IntStream range(int startInclusive, int endExclusive) {
+        IntStream range = IntStream.range(startInclusive, endExclusive);
+
+        return isParallel() ? range.parallel() : range;
+    }
+
+    public void sort(long[] values) {
+        if (isParallel()) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class MappedCSVLoader {
+    private static final byte LINE_FEED = '\n';
+    private static final byte DEFAULT_INSIDE_DELIMITER = '"';
+    private static final long DEFAULT_MAX_CHUNK_SIZE = 1L << 26;
+    private static final long SCAN_WINDOW_SIZE = 1L << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final long maxChunkSize;
+
+    public MappedCSVLoader(ForkJoinPool pool) {
+        this(pool, DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    MappedCSVLoader(ForkJoinPool pool, long maxChunkSize) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool is null.");
+        }
+
+        if (maxChunkSize < 1) {
+            throw new IllegalArgumentException("Max chunk size is less than 1.");
+        }
+
+        this.pool = pool;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public MissionColumns loadMissions(Path file, StringDictionary rocketNames) throws IOException {
+        List<MissionColumns> parts = loadChunks(file, records -> {
+            MissionColumns part = new MissionColumns(new StringDictionary());
+            new CSVColumnsLoader().appendMissions(records, part);
+
+            return part;
+        });
+
+        MissionColumns missions = new MissionColumns(rocketNames);
+        parts.forEach(missions::appendAll);
+
+        return missions;
+    }
+
+    public RocketColumns loadRockets(Path file, StringDictionary rocketNames) throws IOException {
+        List<RocketColumns> parts = loadChunks(file, records -> {
+            RocketColumns part = new RocketColumns(new StringDictionary());
+            new CSVColumnsLoader().appendRockets(records, part);
+
+            return part;
+        });
+
+        RocketColumns rockets = new RocketColumns(rocketNames);
+        parts.forEach(rockets::appendAll);
+
+        return rockets;
+    }
+
+    private <T> List<T> loadChunks(Path file, ChunkParser<T> parser) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null.");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitAtRecords(channel);
+
+            List<Callable<T>> tasks = new ArrayList<>();
+            for (int chunk = 0; chunk + 1 < bounds.length; chunk++) {
+                long start = bounds[chunk];
+                long end = bounds[chunk + 1];
+                boolean hasHeader = chunk == 0;
+
+                tasks.add(() -> {
+                    CSVRecordReader records = decode(channel, start, end);
+                    if (hasHeader) {
+                        records.skipRecord();
+                    }
+
+                    return parser.parse(records);
+                });
+            }
+
+            return invokeAll(tasks);
+        }
+    }
+
+    private long[] splitAtRecords(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) Math.max(
+                (long) pool.getParallelism() * CHUNKS_PER_THREAD,
+                (size + maxChunkSize - 1) / maxChunkSize
+        );
+        long chunkSize = Math.max(1, (size + chunks - 1) / chunks);
+        chunks = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+
+        List<Callable<Long>> quoteCounters = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            long start = chunk * chunkSize;
+            long end = Math.min(size, start + chunkSize);
+            quoteCounters.add(() -> countQuotes(channel, start, end));
+        }
+        List<Long> quoteCounts = invokeAll(quoteCounters);
+
+        List<Callable<Long>> recordFinders = new ArrayList<>();
+        long quotesBefore = 0;
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            quotesBefore += quoteCounts.get(chunk - 1);
+            long start = chunk * chunkSize;
+            boolean isInside = quotesBefore % 2 == 1;
+            recordFinders.add(() -> findRecordStart(channel, start, size, isInside));
+        }
+        List<Long> recordStarts = invokeAll(recordFinders);
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        for (long recordStart : recordStarts) {
+            if (recordStart > bounds.get(bounds.size() - 1) && recordStart < size) {
+                bounds.add(recordStart);
+            }
+        }
+        bounds.add(size);
+
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long countQuotes(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+        long quotes = 0;
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) == DEFAULT_INSIDE_DELIMITER) {
+                quotes++;
+            }
+        }
+
+        return quotes;
+    }
+
+    private long findRecordStart(FileChannel channel, long start, long size, boolean isInside) throws IOException {
+        for (long windowStart = start; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+            long windowEnd = Math.min(size, windowStart + SCAN_WINDOW_SIZE);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+
+            for (int i = 0; i < buffer.limit(); i++) {
+                byte b = buffer.get(i);
+
+                if (b == DEFAULT_INSIDE_DELIMITER) {
+                    isInside = !isInside;
+                } else if (b == LINE_FEED && !isInside) {
+                    return windowStart + i + 1;
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private CSVRecordReader decode(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes);
+
+        return new CSVRecordReader(chars.array(), chars.arrayOffset() + chars.position(),
+                chars.arrayOffset() + chars.limit());
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Loading was interrupted.");
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case IOException cause -> throw cause;
+                case UncheckedIOException cause -> throw cause.getCause();
+                case RuntimeException cause -> throw cause;
+                default -> throw new IOException("Something went wrong when loading the file.", e.getCause());
+            }
+        }
+
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface ChunkParser<T> {
+        T parse(CSVRecordReader records) throws IOException;
+    }
+}
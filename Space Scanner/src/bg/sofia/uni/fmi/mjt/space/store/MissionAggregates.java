@@ -0,0 +1,81 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class MissionAggregates {
+    private static final int NO_KEY = -1;
+
+    private final StringDictionary countries;
+    private final int[] countryOfLocation;
+    private final int locationsCount;
+    private final int[][] rowsPerCountry;
+    private final int[] rowsCountPerCountry;
+    private final int[][] locationCountsPerCompany;
+    private final int[] missionsPerRocketName;
+    private final int[] successesPerRocketName;
+    private final int firstEpochDay;
+    private final int lastEpochDay;
+
+    MissionAggregates(StringDictionary countries, int[] countryOfLocation, int locationsCount,
+                      int[][] rowsPerCountry, int[] rowsCountPerCountry, int[][] locationCountsPerCompany,
+                      int[] missionsPerRocketName, int[] successesPerRocketName,
+                      int firstEpochDay, int lastEpochDay) {
+        this.countries = countries;
+        this.countryOfLocation = countryOfLocation;
+        this.locationsCount = locationsCount;
+        this.rowsPerCountry = rowsPerCountry;
+        this.rowsCountPerCountry = rowsCountPerCountry;
+        this.locationCountsPerCompany = locationCountsPerCompany;
+        this.missionsPerRocketName = missionsPerRocketName;
+        this.successesPerRocketName = successesPerRocketName;
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+    }
+
+    public StringDictionary countries() {
+        return countries;
+    }
+
+    public int countryOfLocation(int location) {
+        if (location < 0 || location >= locationsCount) {
+            throw new IllegalArgumentException("Location is not aggregated.");
+        }
+
+        return countryOfLocation[location];
+    }
+
+    public IntStream rowsOfCountry(int country) {
+        return Arrays.stream(rowsPerCountry[country], 0, rowsCountPerCountry[country]);
+    }
+
+    public int companiesCount() {
+        return locationCountsPerCompany.length;
+    }
+
+    public int mostFrequentLocation(int company) {
+        int[] counts = locationCountsPerCompany[company];
+
+        int best = NO_KEY;
+        for (int location = 0; location < counts.length; location++) {
+            if (counts[location] > 0 && (best == NO_KEY || counts[location] > counts[best])) {
+                best = location;
+            }
+        }
+
+        return best;
+    }
+
+    public boolean coversAllMissions(LocalDate from, LocalDate to) {
+        return from.toEpochDay() <= firstEpochDay && to.toEpochDay() >= lastEpochDay;
+    }
+
+    public int missionsOfRocketName(int rocketName) {
+        return rocketName < missionsPerRocketName.length ? missionsPerRocketName[rocketName] : 0;
+    }
+
+    public int successesOfRocketName(int rocketName) {
+        return rocketName < successesPerRocketName.length ? successesPerRocketName[rocketName] : 0;
+    }
+}
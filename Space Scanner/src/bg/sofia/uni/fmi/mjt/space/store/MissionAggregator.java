@@ -0,0 +1,163 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class MissionAggregator {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final String COUNTRY_DELIMITER = ",";
+
+    private final StringDictionary countries;
+    private int[] countryOfLocation;
+    private int locationsCount;
+    private int[][] rowsPerCountry;
+    private int[] rowsCountPerCountry;
+
+    private int[][] locationCountsPerCompany;
+    private final BitSet sharedCompanies;
+
+    private int[] missionsPerRocketName;
+    private int[] successesPerRocketName;
+    private boolean areRocketCountersShared;
+
+    private int firstEpochDay;
+    private int lastEpochDay;
+    private int aggregatedRows;
+
+    public MissionAggregator() {
+        this.countries = new StringDictionary();
+        this.countryOfLocation = new int[INITIAL_CAPACITY];
+        this.locationsCount = 0;
+        this.rowsPerCountry = new int[0][];
+        this.rowsCountPerCountry = new int[0];
+
+        this.locationCountsPerCompany = new int[0][];
+        this.sharedCompanies = new BitSet();
+
+        this.missionsPerRocketName = new int[0];
+        this.successesPerRocketName = new int[0];
+        this.areRocketCountersShared = false;
+
+        this.firstEpochDay = Integer.MAX_VALUE;
+        this.lastEpochDay = Integer.MIN_VALUE;
+        this.aggregatedRows = 0;
+    }
+
+    public void update(MissionColumns missions) {
+        if (missions == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        if (aggregatedRows == missions.size()) {
+            return;
+        }
+
+        ensureLocations(missions.locations());
+        ensureCompanies(missions.companies().size());
+        ensureRocketNames(missions.rocketNames().size());
+
+        for (int row = aggregatedRows; row < missions.size(); row++) {
+            addToCountry(countryOfLocation[missions.location(row)], row);
+            writableLocationCounts(missions.company(row))[missions.location(row)]++;
+
+            missionsPerRocketName[missions.rocketName(row)]++;
+            if (missions.missionStatus(row) == MissionStatus.SUCCESS) {
+                successesPerRocketName[missions.rocketName(row)]++;
+            }
+
+            firstEpochDay = Math.min(firstEpochDay, missions.epochDay(row));
+            lastEpochDay = Math.max(lastEpochDay, missions.epochDay(row));
+        }
+
+        aggregatedRows = missions.size();
+    }
+
+    public MissionAggregates snapshot() {
+        sharedCompanies.set(0, locationCountsPerCompany.length);
+        areRocketCountersShared = true;
+
+        return new MissionAggregates(
+                countries.snapshot(),
+                countryOfLocation,
+                locationsCount,
+                rowsPerCountry.clone(),
+                rowsCountPerCountry.clone(),
+                locationCountsPerCompany.clone(),
+                missionsPerRocketName,
+                successesPerRocketName,
+                firstEpochDay,
+                lastEpochDay
+        );
+    }
+
+    private void ensureLocations(StringDictionary locations) {
+        if (locations.size() > countryOfLocation.length) {
+            countryOfLocation = Arrays.copyOf(countryOfLocation, Math.max(locations.size(), locationsCount * 2));
+        }
+
+        for (; locationsCount < locations.size(); locationsCount++) {
+            countryOfLocation[locationsCount] = countries.encode(extractCountry(locations.decode(locationsCount)));
+        }
+
+        if (countries.size() > rowsPerCountry.length) {
+            int oldCountriesCount = rowsPerCountry.length;
+            rowsPerCountry = Arrays.copyOf(rowsPerCountry, countries.size());
+            rowsCountPerCountry = Arrays.copyOf(rowsCountPerCountry, countries.size());
+
+            for (int country = oldCountriesCount; country < countries.size(); country++) {
+                rowsPerCountry[country] = new int[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    private void ensureCompanies(int companiesCount) {
+        if (companiesCount > locationCountsPerCompany.length) {
+            int oldCompaniesCount = locationCountsPerCompany.length;
+            locationCountsPerCompany = Arrays.copyOf(locationCountsPerCompany, companiesCount);
+
+            for (int company = oldCompaniesCount; company < companiesCount; company++) {
+                locationCountsPerCompany[company] = new int[locationsCount];
+            }
+        }
+    }
+
+    private void ensureRocketNames(int rocketNamesCount) {
+        if (areRocketCountersShared || rocketNamesCount > missionsPerRocketName.length) {
+            int capacity = Math.max(rocketNamesCount, missionsPerRocketName.length);
+            missionsPerRocketName = Arrays.copyOf(missionsPerRocketName, capacity);
+            successesPerRocketName = Arrays.copyOf(successesPerRocketName, capacity);
+            areRocketCountersShared = false;
+        }
+    }
+
+    private void addToCountry(int country, int row) {
+        int[] rows = rowsPerCountry[country];
+        int count = rowsCountPerCountry[country];
+
+        if (count == rows.length) {
+            rows = Arrays.copyOf(rows, count * 2);
+            rowsPerCountry[country] = rows;
+        }
+
+        rows[count] = row;
+        rowsCountPerCountry[country]++;
+    }
+
+    private int[] writableLocationCounts(int company) {
+        int[] counts = locationCountsPerCompany[company];
+
+        if (sharedCompanies.get(company) || counts.length < locationsCount) {
+            counts = Arrays.copyOf(counts, Math.max(counts.length, locationsCount));
+            locationCountsPerCompany[company] = counts;
+            sharedCompanies.clear(company);
+        }
+
+        return counts;
+    }
+
+    private static String extractCountry(String location) {
+        return location.substring(location.lastIndexOf(COUNTRY_DELIMITER) + 1).strip();
+    }
+}
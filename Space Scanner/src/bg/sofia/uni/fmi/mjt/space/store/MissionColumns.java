@@ -0,0 +1,311 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Detail;
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public class MissionColumns {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+    private static final double MISSING_COST = Double.NaN;
+
+    private final StringDictionary companies;
+    private final StringDictionary locations;
+    private final StringDictionary rocketNames;
+    private final boolean isReadOnly;
+
+    private int size;
+    private String[] ids;
+    private int[] companyCodes;
+    private int[] locationCodes;
+    private int[] epochDays;
+    private int[] rocketNameCodes;
+    private String[] payloads;
+    private byte[] rocketStatuses;
+    private double[] costs;
+    private byte[] missionStatuses;
+
+    public MissionColumns(StringDictionary rocketNames) {
+        this.companies = new StringDictionary();
+        this.locations = new StringDictionary();
+        this.rocketNames = rocketNames;
+        this.isReadOnly = false;
+
+        this.size = 0;
+        this.ids = new String[INITIAL_CAPACITY];
+        this.companyCodes = new int[INITIAL_CAPACITY];
+        this.locationCodes = new int[INITIAL_CAPACITY];
+        this.epochDays = new int[INITIAL_CAPACITY];
+        this.rocketNameCodes = new int[INITIAL_CAPACITY];
+        this.payloads = new String[INITIAL_CAPACITY];
+        this.rocketStatuses = new byte[INITIAL_CAPACITY];
+        this.costs = new double[INITIAL_CAPACITY];
+        this.missionStatuses = new byte[INITIAL_CAPACITY];
+    }
+
+    private MissionColumns(MissionColumns source) {
+        this.companies = source.companies.snapshot();
+        this.locations = source.locations.snapshot();
+        this.rocketNames = source.rocketNames.snapshot();
+        this.isReadOnly = true;
+
+        this.size = source.size;
+        this.ids = source.ids;
+        this.companyCodes = source.companyCodes;
+        this.locationCodes = source.locationCodes;
+        this.epochDays = source.epochDays;
+        this.rocketNameCodes = source.rocketNameCodes;
+        this.payloads = source.payloads;
+        this.rocketStatuses = source.rocketStatuses;
+        this.costs = source.costs;
+        this.missionStatuses = source.missionStatuses;
+    }
+
+    private MissionColumns(StringDictionary companies, StringDictionary locations, StringDictionary rocketNames,
+                           ByteBuffer buffer) throws StreamCorruptedException {
+        this.companies = companies;
+        this.locations = locations;
+        this.rocketNames = rocketNames;
+        this.isReadOnly = false;
+
+        this.size = SnapshotFile.readCount(buffer);
+        this.ids = SnapshotFile.readStrings(buffer, size);
+        this.companyCodes = readCodes(buffer, size, companies);
+        this.locationCodes = readCodes(buffer, size, locations);
+        this.epochDays = SnapshotFile.readInts(buffer, size);
+        this.rocketNameCodes = readCodes(buffer, size, rocketNames);
+        this.payloads = SnapshotFile.readStrings(buffer, size);
+        this.rocketStatuses = readStatuses(buffer, size, ROCKET_STATUSES.length);
+        this.missionStatuses = readStatuses(buffer, size, MISSION_STATUSES.length);
+        this.costs = SnapshotFile.readDoubles(buffer, size);
+    }
+
+    static MissionColumns readFrom(ByteBuffer buffer, StringDictionary rocketNames) throws StreamCorruptedException {
+        StringDictionary companies = StringDictionary.readFrom(buffer);
+        StringDictionary locations = StringDictionary.readFrom(buffer);
+
+        return new MissionColumns(companies, locations, rocketNames, buffer);
+    }
+
+    public MissionColumns snapshot() {
+        return isReadOnly ? this : new MissionColumns(this);
+    }
+
+    public void add(Mission mission) {
+        if (mission == null) {
+            throw new IllegalArgumentException("Mission is null.");
+        }
+
+        append(
+                mission.id(),
+                companies.encode(mission.company()),
+                locations.encode(mission.location()),
+                Math.toIntExact(mission.date().toEpochDay()),
+                rocketNames.encode(mission.detail().rocketName()),
+                mission.detail().payload(),
+                mission.rocketStatus(),
+                mission.cost().isPresent(),
+                mission.cost().orElse(0.0),
+                mission.missionStatus()
+        );
+    }
+
+    public void appendAll(MissionColumns other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        checkWritable();
+
+        int[] companyCodesMapping = companies.encodeAll(other.companies);
+        int[] locationCodesMapping = locations.encodeAll(other.locations);
+        int[] rocketNameCodesMapping = rocketNames.encodeAll(other.rocketNames);
+
+        ensureCapacity(size + other.size);
+
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        System.arraycopy(other.epochDays, 0, epochDays, size, other.size);
+        System.arraycopy(other.payloads, 0, payloads, size, other.size);
+        System.arraycopy(other.rocketStatuses, 0, rocketStatuses, size, other.size);
+        System.arraycopy(other.costs, 0, costs, size, other.size);
+        System.arraycopy(other.missionStatuses, 0, missionStatuses, size, other.size);
+
+        for (int row = 0; row < other.size; row++) {
+            companyCodes[size + row] = companyCodesMapping[other.companyCodes[row]];
+            locationCodes[size + row] = locationCodesMapping[other.locationCodes[row]];
+            rocketNameCodes[size + row] = rocketNameCodesMapping[other.rocketNameCodes[row]];
+        }
+
+        size += other.size;
+    }
+
+    void append(String id, int company, int location, int epochDay, int rocketName, String payload,
+                RocketStatus rocketStatus, boolean hasCost, double cost, MissionStatus missionStatus) {
+        checkWritable();
+
+        if (size == ids.length) {
+            ensureCapacity(size + 1);
+        }
+
+        ids[size] = id;
+        companyCodes[size] = company;
+        locationCodes[size] = location;
+        epochDays[size] = epochDay;
+        rocketNameCodes[size] = rocketName;
+        payloads[size] = payload;
+        rocketStatuses[size] = (byte) rocketStatus.ordinal();
+        missionStatuses[size] = (byte) missionStatus.ordinal();
+        costs[size] = hasCost ? cost : MISSING_COST;
+
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public StringDictionary companies() {
+        return companies;
+    }
+
+    public StringDictionary locations() {
+        return locations;
+    }
+
+    public StringDictionary rocketNames() {
+        return rocketNames;
+    }
+
+    public int company(int row) {
+        return companyCodes[row];
+    }
+
+    public int location(int row) {
+        return locationCodes[row];
+    }
+
+    public int epochDay(int row) {
+        return epochDays[row];
+    }
+
+    public int rocketName(int row) {
+        return rocketNameCodes[row];
+    }
+
+    public MissionStatus missionStatus(int row) {
+        return MISSION_STATUSES[missionStatuses[row]];
+    }
+
+    public RocketStatus rocketStatus(int row) {
+        return ROCKET_STATUSES[rocketStatuses[row]];
+    }
+
+    public boolean hasCost(int row) {
+        return !Double.isNaN(costs[row]);
+    }
+
+    public double cost(int row) {
+        return costs[row];
+    }
+
+    public IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    public Mission mission(int row) {
+        return new Mission(
+                ids[row],
+                companies.decode(companyCodes[row]),
+                locations.decode(locationCodes[row]),
+                LocalDate.ofEpochDay(epochDays[row]),
+                new Detail(rocketNames.decode(rocketNameCodes[row]), payloads[row]),
+                rocketStatus(row),
+                hasCost(row) ? Optional.of(costs[row]) : Optional.empty(),
+                missionStatus(row)
+        );
+    }
+
+    public List<Mission> missions(int[] rows) {
+        return Arrays.stream(rows).mapToObj(this::mission).toList();
+    }
+
+    public List<Mission> asList() {
+        return new RowListView<>(this::mission, size);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        companies.writeTo(out);
+        locations.writeTo(out);
+
+        out.writeInt(size);
+        SnapshotFile.writeStrings(out, ids, size);
+        SnapshotFile.writeInts(out, companyCodes, size);
+        SnapshotFile.writeInts(out, locationCodes, size);
+        SnapshotFile.writeInts(out, epochDays, size);
+        SnapshotFile.writeInts(out, rocketNameCodes, size);
+        SnapshotFile.writeStrings(out, payloads, size);
+        out.write(rocketStatuses, 0, size);
+        out.write(missionStatuses, 0, size);
+        SnapshotFile.writeDoubles(out, costs, size);
+    }
+
+    private void checkWritable() {
+        if (isReadOnly) {
+            throw new IllegalStateException("Columns are read-only.");
+        }
+    }
+
+    private static int[] readCodes(ByteBuffer buffer, int count, StringDictionary dictionary)
+            throws StreamCorruptedException {
+        int[] codes = SnapshotFile.readInts(buffer, count);
+        for (int code : codes) {
+            if (code < 0 || code >= dictionary.size()) {
+                throw new StreamCorruptedException("Snapshot contains an unknown dictionary code.");
+            }
+        }
+
+        return codes;
+    }
+
+    private static byte[] readStatuses(ByteBuffer buffer, int count, int statusesCount)
+            throws StreamCorruptedException {
+        byte[] statuses = SnapshotFile.readBytes(buffer, count);
+        for (byte status : statuses) {
+            if (status < 0 || status >= statusesCount) {
+                throw new StreamCorruptedException("Snapshot contains an unknown status.");
+            }
+        }
+
+        return statuses;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= ids.length) {
+            return;
+        }
+
+        int capacity = Math.max(minCapacity, ids.length * 2);
+
+        ids = Arrays.copyOf(ids, capacity);
+        companyCodes = Arrays.copyOf(companyCodes, capacity);
+        locationCodes = Arrays.copyOf(locationCodes, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        rocketNameCodes = Arrays.copyOf(rocketNameCodes, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+        rocketStatuses = Arrays.copyOf(rocketStatuses, capacity);
+        costs = Arrays.copyOf(costs, capacity);
+        missionStatuses = Arrays.copyOf(missionStatuses, capacity);
+    }
+}
@@ -0,0 +1,151 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+public class MissionCostIndex {
+    private static final int ROCKET_STATUSES_COUNT = RocketStatus.values().length;
+    private static final int STATUS_PAIRS_COUNT = MissionStatus.values().length * ROCKET_STATUSES_COUNT;
+
+    private final int size;
+    private final int[][] rowsByCostPerStatuses;
+
+    public MissionCostIndex(MissionColumns missions) {
+        this(missions, ExecutionMode.sequential());
+    }
+
+    public MissionCostIndex(MissionColumns missions, ExecutionMode mode) {
+        if (missions == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
+        this.size = missions.size();
+
+        int[] pricedMissionsPerStatuses = mode.range(0, missions.size())
+                .filter(missions::hasCost)
+                .collect(() -> new int[STATUS_PAIRS_COUNT],
+                        (counts, row) -> counts[statusesOf(missions, row)]++,
+                        MissionCostIndex::addCounts);
+
+        BoundedRowHeap[] heaps = mode.range(0, missions.size())
+                .filter(missions::hasCost)
+                .collect(() -> newHeaps(pricedMissionsPerStatuses),
+                        (partial, row) -> partial[statusesOf(missions, row)].offer(missions.cost(row), row),
+                        MissionCostIndex::mergeHeaps);
+
+        this.rowsByCostPerStatuses = Arrays.stream(heaps)
+                .map(BoundedRowHeap::toSortedRows)
+                .toArray(int[][]::new);
+    }
+
+    private MissionCostIndex(MissionCostIndex source, MissionColumns missions) {
+        this.size = missions.size();
+        this.rowsByCostPerStatuses = source.rowsByCostPerStatuses.clone();
+
+        int[] appended = IntStream.range(source.size, size)
+                .filter(missions::hasCost)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(row -> statusesOf(missions, row))
+                        .thenComparingDouble(missions::cost)
+                        .thenComparingInt(Integer::intValue))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        for (int start = 0, end = 0; start < appended.length; start = end) {
+            int statuses = statusesOf(missions, appended[start]);
+            while (end < appended.length && statusesOf(missions, appended[end]) == statuses) {
+                end++;
+            }
+
+            rowsByCostPerStatuses[statuses] = mergeByCost(missions, rowsByCostPerStatuses[statuses],
+                    Arrays.copyOfRange(appended, start, end));
+        }
+    }
+
+    public MissionCostIndex extendedWith(MissionColumns missions) {
+        if (missions == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        if (missions.size() < size) {
+            throw new IllegalArgumentException("Missions have fewer rows than the index.");
+        }
+
+        return missions.size() == size ? this : new MissionCostIndex(this, missions);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int[] leastExpensive(int n, MissionStatus missionStatus, RocketStatus rocketStatus) {
+        int[] rows = rowsByCostPerStatuses[statusesOf(missionStatus, rocketStatus)];
+
+        return Arrays.copyOf(rows, Math.min(n, rows.length));
+    }
+
+    public int[] mostExpensive(int n, MissionStatus missionStatus, RocketStatus rocketStatus) {
+        int[] rows = rowsByCostPerStatuses[statusesOf(missionStatus, rocketStatus)];
+        int[] result = new int[Math.min(n, rows.length)];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = rows[rows.length - 1 - i];
+        }
+
+        return result;
+    }
+
+    private static int[] mergeByCost(MissionColumns missions, int[] rows, int[] appended) {
+        int[] merged = new int[rows.length + appended.length];
+        int rowsIndex = 0;
+        int appendedIndex = 0;
+
+        for (int i = 0; i < merged.length; i++) {
+            if (appendedIndex == appended.length || rowsIndex < rows.length &&
+                    missions.cost(rows[rowsIndex]) <= missions.cost(appended[appendedIndex])) {
+                merged[i] = rows[rowsIndex++];
+            } else {
+                merged[i] = appended[appendedIndex++];
+            }
+        }
+
+        return merged;
+    }
+
+    private static BoundedRowHeap[] newHeaps(int[] pricedMissionsPerStatuses) {
+        BoundedRowHeap[] heaps = new BoundedRowHeap[STATUS_PAIRS_COUNT];
+        for (int statuses = 0; statuses < STATUS_PAIRS_COUNT; statuses++) {
+            heaps[statuses] = BoundedRowHeap.smallest(Math.max(1, pricedMissionsPerStatuses[statuses]));
+        }
+
+        return heaps;
+    }
+
+    private static void addCounts(int[] counts, int[] other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other[i];
+        }
+    }
+
+    private static void mergeHeaps(BoundedRowHeap[] heaps, BoundedRowHeap[] other) {
+        for (int i = 0; i < heaps.length; i++) {
+            heaps[i].merge(other[i]);
+        }
+    }
+
+    private static int statusesOf(MissionColumns missions, int row) {
+        return statusesOf(missions.missionStatus(row), missions.rocketStatus(row));
+    }
+
+    private static int statusesOf(MissionStatus missionStatus, RocketStatus rocketStatus) {
+        return missionStatus.ordinal() * ROCKET_STATUSES_COUNT + rocketStatus.ordinal();
+    }
+}
@@ -0,0 +1,319 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public class MissionDateIndex {
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int LOW_BITS = 32;
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private final int size;
+    private final int[] rowsByDate;
+    private final int[] epochDays;
+    private final int firstMonth;
+    private final int[] monthStarts;
+
+    private final Map<Long, Integer> pairCodes;
+    private final int[] companyOfPair;
+    private final int[] locationOfPair;
+    private final int[] pairOfRow;
+    private final AtomicBoolean isExtended;
+
+    private final MonthlyPrefixCounts successesPerCompany;
+    private final MonthlyPrefixCounts successesPerCompanyLocation;
+    private final MonthlyPrefixCounts successesPerRocketName;
+    private final MonthlyPrefixCounts missionsPerRocketName;
+
+    public MissionDateIndex(MissionColumns missions) {
+        this(missions, ExecutionMode.sequential());
+    }
+
+    public MissionDateIndex(MissionColumns missions, ExecutionMode mode) {
+        if (missions == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
+        this.size = missions.size();
+        this.rowsByDate = sortRowsByDate(missions, mode);
+        this.epochDays = mode.range(0, rowsByDate.length).map(i -> missions.epochDay(rowsByDate[i])).toArray();
+        this.firstMonth = size == 0 ? 0 : epochMonth(epochDays[0]);
+        this.monthStarts = findMonthStarts(epochDays);
+
+        Map<Long, Integer> pairs = new HashMap<>();
+        this.pairOfRow = missions.rows()
+                .map(row -> pairs.computeIfAbsent(pairOf(missions, row), pair -> pairs.size()))
+                .toArray();
+        this.pairCodes = pairs;
+        this.companyOfPair = new int[pairs.size()];
+        this.locationOfPair = new int[pairs.size()];
+        pairs.forEach((pair, code) -> {
+            companyOfPair[code] = (int) (pair >>> LOW_BITS);
+            locationOfPair[code] = (int) (pair & LOW_MASK);
+        });
+        this.isExtended = new AtomicBoolean();
+
+        IntPredicate isSuccessful = isSuccessful(missions);
+        this.successesPerCompany = new MonthlyPrefixCounts(rowsByDate, monthStarts, isSuccessful,
+                missions::company, missions.companies().size(), mode);
+        this.successesPerCompanyLocation = new MonthlyPrefixCounts(rowsByDate, monthStarts, isSuccessful,
+                row -> pairOfRow[row], pairs.size(), mode);
+        this.successesPerRocketName = new MonthlyPrefixCounts(rowsByDate, monthStarts, isSuccessful,
+                missions::rocketName, missions.rocketNames().size(), mode);
+        this.missionsPerRocketName = new MonthlyPrefixCounts(rowsByDate, monthStarts, row -> true,
+                missions::rocketName, missions.rocketNames().size(), mode);
+    }
+
+    private MissionDateIndex(MissionDateIndex source, MissionColumns missions, ExecutionMode mode) {
+        this.size = missions.size();
+
+        long[] appended = mode.range(source.size, size)
+                .mapToLong(row -> ((long) missions.epochDay(row) << LOW_BITS) | row)
+                .toArray();
+        mode.sort(appended);
+
+        int[] appendedMonths = Arrays.stream(appended)
+                .mapToInt(dayAndRow -> epochMonth((int) (dayAndRow >>> LOW_BITS)))
+                .toArray();
+        this.firstMonth = Math.min(source.firstMonth, appendedMonths[0]);
+        int monthShift = source.firstMonth - firstMonth;
+        int monthsCount = Math.max(source.monthStarts.length - 1 + monthShift,
+                appendedMonths[appendedMonths.length - 1] - firstMonth + 1);
+
+        boolean isInPlace = source.isExtended.compareAndSet(false, true);
+        boolean isInOrder = (int) (appended[0] >>> LOW_BITS) >= source.epochDays[source.size - 1];
+        if (isInPlace && isInOrder) {
+            this.rowsByDate = ensureCapacity(source.rowsByDate, size);
+            this.epochDays = ensureCapacity(source.epochDays, size);
+            for (int i = 0; i < appended.length; i++) {
+                rowsByDate[source.size + i] = (int) (appended[i] & LOW_MASK);
+                epochDays[source.size + i] = (int) (appended[i] >>> LOW_BITS);
+            }
+        } else {
+            this.rowsByDate = new int[size];
+            this.epochDays = new int[size];
+            mergeByDate(source, appended);
+        }
+
+        this.monthStarts = new int[monthsCount + 1];
+        for (int month = 0; month <= monthsCount; month++) {
+            int sourceMonth = Math.min(month - monthShift, source.monthStarts.length - 1);
+            monthStarts[month] = sourceMonth < 0 ? 0 : source.monthStarts[sourceMonth];
+        }
+        int[] relativeMonths = new int[appendedMonths.length];
+        int[] appendedPerMonth = new int[monthsCount + 1];
+        for (int i = 0; i < appendedMonths.length; i++) {
+            relativeMonths[i] = appendedMonths[i] - firstMonth;
+            appendedPerMonth[relativeMonths[i] + 1]++;
+        }
+        for (int month = 1, added = 0; month <= monthsCount; month++) {
+            added += appendedPerMonth[month];
+            monthStarts[month] += added;
+        }
+
+        this.pairCodes = new HashMap<>(source.pairCodes);
+        this.pairOfRow = isInPlace ? ensureCapacity(source.pairOfRow, size) : Arrays.copyOf(source.pairOfRow, size);
+        for (int row = source.size; row < size; row++) {
+            pairOfRow[row] = pairCodes.computeIfAbsent(pairOf(missions, row), pair -> pairCodes.size());
+        }
+        this.companyOfPair = Arrays.copyOf(source.companyOfPair, pairCodes.size());
+        this.locationOfPair = Arrays.copyOf(source.locationOfPair, pairCodes.size());
+        for (int row = source.size; row < size; row++) {
+            companyOfPair[pairOfRow[row]] = missions.company(row);
+            locationOfPair[pairOfRow[row]] = missions.location(row);
+        }
+        this.isExtended = new AtomicBoolean();
+
+        int[] appendedRows = Arrays.stream(appended).mapToInt(dayAndRow -> (int) (dayAndRow & LOW_MASK)).toArray();
+        IntPredicate isSuccessful = isSuccessful(missions);
+        this.successesPerCompany = source.successesPerCompany.extendedWith(appendedRows, relativeMonths,
+                monthShift, monthsCount, isSuccessful, missions::company, missions.companies().size());
+        this.successesPerCompanyLocation = source.successesPerCompanyLocation.extendedWith(appendedRows,
+                relativeMonths, monthShift, monthsCount, isSuccessful, row -> pairOfRow[row], pairCodes.size());
+        this.successesPerRocketName = source.successesPerRocketName.extendedWith(appendedRows, relativeMonths,
+                monthShift, monthsCount, isSuccessful, missions::rocketName, missions.rocketNames().size());
+        this.missionsPerRocketName = source.missionsPerRocketName.extendedWith(appendedRows, relativeMonths,
+                monthShift, monthsCount, row -> true, missions::rocketName, missions.rocketNames().size());
+    }
+
+    public MissionDateIndex extendedWith(MissionColumns missions, ExecutionMode mode) {
+        if (missions == null) {
+            throw new IllegalArgumentException("Missions are null.");
+        }
+
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode is null.");
+        }
+
+        if (missions.size() < size) {
+            throw new IllegalArgumentException("Missions have fewer rows than the index.");
+        }
+
+        if (missions.size() == size) {
+            return this;
+        }
+
+        return size == 0 ? new MissionDateIndex(missions, mode) : new MissionDateIndex(this, missions, mode);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public IntStream rowsBetween(LocalDate from, LocalDate to) {
+        return Arrays.stream(rowsByDate, lowerBound(epochDays, size, epochDay(from)),
+                upperBound(epochDays, size, epochDay(to)));
+    }
+
+    public int[] successfulMissionsPerCompany(LocalDate from, LocalDate to) {
+        return countBetween(successesPerCompany, from, to);
+    }
+
+    public int[] successfulMissionsPerCompanyLocation(LocalDate from, LocalDate to) {
+        return countBetween(successesPerCompanyLocation, from, to);
+    }
+
+    public int[] successfulMissionsPerRocketName(LocalDate from, LocalDate to) {
+        return countBetween(successesPerRocketName, from, to);
+    }
+
+    public int[] missionsPerRocketName(LocalDate from, LocalDate to) {
+        return countBetween(missionsPerRocketName, from, to);
+    }
+
+    public int companyLocationPairsCount() {
+        return companyOfPair.length;
+    }
+
+    public int companyOfPair(int pair) {
+        return companyOfPair[pair];
+    }
+
+    public int locationOfPair(int pair) {
+        return locationOfPair[pair];
+    }
+
+    private int[] countBetween(MonthlyPrefixCounts table, LocalDate from, LocalDate to) {
+        int[] counts = new int[table.keysCount()];
+        int lowRow = lowerBound(epochDays, size, epochDay(from));
+        int highRow = upperBound(epochDays, size, epochDay(to));
+        if (lowRow >= highRow) {
+            return counts;
+        }
+
+        int firstFullMonth = lowerBound(monthStarts, monthStarts.length, lowRow);
+        int lastMonthEnd = upperBound(monthStarts, monthStarts.length, highRow) - 1;
+
+        if (firstFullMonth > lastMonthEnd) {
+            table.addRows(counts, rowsByDate, lowRow, highRow);
+            return counts;
+        }
+
+        table.addRows(counts, rowsByDate, lowRow, monthStarts[firstFullMonth]);
+        table.addMonths(counts, firstFullMonth, lastMonthEnd);
+        table.addRows(counts, rowsByDate, monthStarts[lastMonthEnd], highRow);
+
+        return counts;
+    }
+
+    private void mergeByDate(MissionDateIndex source, long[] appended) {
+        int sourceIndex = 0;
+        int appendedIndex = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (appendedIndex == appended.length || sourceIndex < source.size &&
+                    source.epochDays[sourceIndex] <= (int) (appended[appendedIndex] >>> LOW_BITS)) {
+                rowsByDate[i] = source.rowsByDate[sourceIndex];
+                epochDays[i] = source.epochDays[sourceIndex++];
+            } else {
+                rowsByDate[i] = (int) (appended[appendedIndex] & LOW_MASK);
+                epochDays[i] = (int) (appended[appendedIndex++] >>> LOW_BITS);
+            }
+        }
+    }
+
+    private static IntPredicate isSuccessful(MissionColumns missions) {
+        return row -> missions.missionStatus(row) == MissionStatus.SUCCESS;
+    }
+
+    private static long pairOf(MissionColumns missions, int row) {
+        return ((long) missions.company(row) << LOW_BITS) | missions.location(row);
+    }
+
+    private static int[] ensureCapacity(int[] values, int minCapacity) {
+        return minCapacity <= values.length ? values : Arrays.copyOf(values, Math.max(minCapacity, values.length * 2));
+    }
+
+    private static int[] sortRowsByDate(MissionColumns missions, ExecutionMode mode) {
+        long[] dayAndRow = mode.range(0, missions.size())
+                .mapToLong(row -> ((long) missions.epochDay(row) << LOW_BITS) | row)
+                .toArray();
+        mode.sort(dayAndRow);
+
+        return mode.range(0, dayAndRow.length).map(i -> (int) (dayAndRow[i] & LOW_MASK)).toArray();
+    }
+
+    private static int[] findMonthStarts(int[] epochDays) {
+        if (epochDays.length == 0) {
+            return new int[] {0};
+        }
+
+        int firstMonth = epochMonth(epochDays[0]);
+        int monthsCount = epochMonth(epochDays[epochDays.length - 1]) - firstMonth + 1;
+
+        int[] monthStarts = new int[monthsCount + 1];
+        int month = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            int rowMonth = epochMonth(epochDays[i]) - firstMonth;
+            while (month < rowMonth) {
+                monthStarts[++month] = i;
+            }
+        }
+        while (month < monthsCount) {
+            monthStarts[++month] = epochDays.length;
+        }
+
+        return monthStarts;
+    }
+
+    private static int epochMonth(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+        return date.getYear() * MONTHS_IN_YEAR + date.getMonthValue() - 1;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.clamp(date.toEpochDay(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static int lowerBound(int[] values, int length, int value) {
+        int low = 0;
+        int high = length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static int upperBound(int[] values, int length, int value) {
+        return value == Integer.MAX_VALUE ? length : lowerBound(values, length, value + 1);
+    }
+}
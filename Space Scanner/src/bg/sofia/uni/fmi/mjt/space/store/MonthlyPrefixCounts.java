@@ -0,0 +1,94 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+class MonthlyPrefixCounts {
+    private final IntPredicate filter;
+    private final IntUnaryOperator key;
+    private final int keysCount;
+    private final int[] prefix;
+
+    MonthlyPrefixCounts(int[] rowsByDate, int[] monthStarts, IntPredicate filter, IntUnaryOperator key,
+                        int keysCount) {
+        this(rowsByDate, monthStarts, filter, key, keysCount, ExecutionMode.sequential());
+    }
+
+    MonthlyPrefixCounts(int[] rowsByDate, int[] monthStarts, IntPredicate filter, IntUnaryOperator key,
+                        int keysCount, ExecutionMode mode) {
+        this.filter = filter;
+        this.key = key;
+        this.keysCount = keysCount;
+        this.prefix = new int[monthStarts.length * keysCount];
+
+        mode.range(1, monthStarts.length).forEach(month -> {
+            int offset = month * keysCount;
+            for (int i = monthStarts[month - 1]; i < monthStarts[month]; i++) {
+                int row = rowsByDate[i];
+                if (filter.test(row)) {
+                    prefix[offset + key.applyAsInt(row)]++;
+                }
+            }
+        });
+
+        for (int offset = keysCount; offset < prefix.length; offset++) {
+            prefix[offset] += prefix[offset - keysCount];
+        }
+    }
+
+    private MonthlyPrefixCounts(IntPredicate filter, IntUnaryOperator key, int keysCount, int[] prefix) {
+        this.filter = filter;
+        this.key = key;
+        this.keysCount = keysCount;
+        this.prefix = prefix;
+    }
+
+    MonthlyPrefixCounts extendedWith(int[] rows, int[] months, int monthShift, int monthsCount,
+                                     IntPredicate filter, IntUnaryOperator key, int keysCount) {
+        int[] extended = new int[(monthsCount + 1) * keysCount];
+
+        int lastMonth = prefix.length / this.keysCount - 1;
+        for (int month = Math.max(0, monthShift); month <= monthsCount; month++) {
+            System.arraycopy(prefix, Math.min(month - monthShift, lastMonth) * this.keysCount,
+                    extended, month * keysCount, this.keysCount);
+        }
+
+        int[] added = new int[extended.length];
+        for (int i = 0; i < rows.length; i++) {
+            if (filter.test(rows[i])) {
+                added[(months[i] + 1) * keysCount + key.applyAsInt(rows[i])]++;
+            }
+        }
+
+        for (int offset = 0; offset < extended.length; offset++) {
+            if (offset >= keysCount) {
+                added[offset] += added[offset - keysCount];
+            }
+            extended[offset] += added[offset];
+        }
+
+        return new MonthlyPrefixCounts(filter, key, keysCount, extended);
+    }
+
+    int keysCount() {
+        return keysCount;
+    }
+
+    void addMonths(int[] counts, int fromMonth, int toMonth) {
+        int from = fromMonth * keysCount;
+        int to = toMonth * keysCount;
+
+        for (int key = 0; key < keysCount; key++) {
+            counts[key] += prefix[to + key] - prefix[from + key];
+        }
+    }
+
+    void addRows(int[] counts, int[] rowsByDate, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int row = rowsByDate[i];
+            if (filter.test(row)) {
+                counts[key.applyAsInt(row)]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public class RocketColumns {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double MISSING_HEIGHT = Double.NaN;
+
+    private final StringDictionary rocketNames;
+    private final boolean isReadOnly;
+
+    private int size;
+    private String[] ids;
+    private int[] nameCodes;
+    private String[] wikis;
+    private double[] heights;
+
+    public RocketColumns(StringDictionary rocketNames) {
+        this.rocketNames = rocketNames;
+        this.isReadOnly = false;
+
+        this.size = 0;
+        this.ids = new String[INITIAL_CAPACITY];
+        this.nameCodes = new int[INITIAL_CAPACITY];
+        this.wikis = new String[INITIAL_CAPACITY];
+        this.heights = new double[INITIAL_CAPACITY];
+    }
+
+    private RocketColumns(RocketColumns source) {
+        this.rocketNames = source.rocketNames.snapshot();
+        this.isReadOnly = true;
+
+        this.size = source.size;
+        this.ids = source.ids;
+        this.nameCodes = source.nameCodes;
+        this.wikis = source.wikis;
+        this.heights = source.heights;
+    }
+
+    private RocketColumns(StringDictionary rocketNames, ByteBuffer buffer) throws StreamCorruptedException {
+        this.rocketNames = rocketNames;
+        this.isReadOnly = false;
+
+        this.size = SnapshotFile.readCount(buffer);
+        this.ids = SnapshotFile.readStrings(buffer, size);
+        this.nameCodes = SnapshotFile.readInts(buffer, size);
+        this.wikis = SnapshotFile.readStrings(buffer, size);
+        this.heights = SnapshotFile.readDoubles(buffer, size);
+
+        for (int nameCode : nameCodes) {
+            if (nameCode < 0 || nameCode >= rocketNames.size()) {
+                throw new StreamCorruptedException("Snapshot contains an unknown dictionary code.");
+            }
+        }
+    }
+
+    static RocketColumns readFrom(ByteBuffer buffer, StringDictionary rocketNames) throws StreamCorruptedException {
+        return new RocketColumns(rocketNames, buffer);
+    }
+
+    public RocketColumns snapshot() {
+        return isReadOnly ? this : new RocketColumns(this);
+    }
+
+    public void add(Rocket rocket) {
+        if (rocket == null) {
+            throw new IllegalArgumentException("Rocket is null.");
+        }
+
+        append(
+                rocket.id(),
+                rocketNames.encode(rocket.name()),
+                rocket.wiki().orElse(null),
+                rocket.height().isPresent(),
+                rocket.height().orElse(0.0)
+        );
+    }
+
+    public void appendAll(RocketColumns other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Rockets are null.");
+        }
+
+        checkWritable();
+
+        int[] nameCodesMapping = rocketNames.encodeAll(other.rocketNames);
+
+        ensureCapacity(size + other.size);
+
+        System.arraycopy(other.ids, 0, ids, size, other.size);
+        System.arraycopy(other.wikis, 0, wikis, size, other.size);
+        System.arraycopy(other.heights, 0, heights, size, other.size);
+
+        for (int row = 0; row < other.size; row++) {
+            nameCodes[size + row] = nameCodesMapping[other.nameCodes[row]];
+        }
+
+        size += other.size;
+    }
+
+    void append(String id, int name, String wiki, boolean hasHeight, double height) {
+        checkWritable();
+
+        if (size == ids.length) {
+            ensureCapacity(size + 1);
+        }
+
+        ids[size] = id;
+        nameCodes[size] = name;
+        wikis[size] = wiki;
+        heights[size] = hasHeight ? height : MISSING_HEIGHT;
+
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public StringDictionary rocketNames() {
+        return rocketNames;
+    }
+
+    public int name(int row) {
+        return nameCodes[row];
+    }
+
+    public boolean hasWiki(int row) {
+        return wikis[row] != null;
+    }
+
+    public String wiki(int row) {
+        return wikis[row];
+    }
+
+    public boolean hasHeight(int row) {
+        return !Double.isNaN(heights[row]);
+    }
+
+    public double height(int row) {
+        return heights[row];
+    }
+
+    public IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    public Rocket rocket(int row) {
+        return new Rocket(
+                ids[row],
+                rocketNames.decode(nameCodes[row]),
+                Optional.ofNullable(wikis[row]),
+                hasHeight(row) ? Optional.of(heights[row]) : Optional.empty()
+        );
+    }
+
+    public List<Rocket> rockets(int[] rows) {
+        return Arrays.stream(rows).mapToObj(this::rocket).toList();
+    }
+
+    public List<Rocket> asList() {
+        return new RowListView<>(this::rocket, size);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        SnapshotFile.writeStrings(out, ids, size);
+        SnapshotFile.writeInts(out, nameCodes, size);
+        SnapshotFile.writeStrings(out, wikis, size);
+        SnapshotFile.writeDoubles(out, heights, size);
+    }
+
+    private void checkWritable() {
+        if (isReadOnly) {
+            throw new IllegalStateException("Columns are read-only.");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= ids.length) {
+            return;
+        }
+
+        int capacity = Math.max(minCapacity, ids.length * 2);
+
+        ids = Arrays.copyOf(ids, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+        wikis = Arrays.copyOf(wikis, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+    }
+}
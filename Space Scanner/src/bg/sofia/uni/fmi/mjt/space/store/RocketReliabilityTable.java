@@ -0,0 +1,57 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.util.stream.IntStream;
+
+public class RocketReliabilityTable {
+    private final int[] successes;
+    private final int[] totals;
+
+    public RocketReliabilityTable(int[] successes, int[] totals) {
+        if (successes == null || totals == null) {
+            throw new IllegalArgumentException("Counts are null.");
+        }
+
+        if (successes.length != totals.length) {
+            throw new IllegalArgumentException("Counts are not of the same length.");
+        }
+
+        this.successes = successes;
+        this.totals = totals;
+    }
+
+    public static RocketReliabilityTable of(MissionAggregates aggregates, int rocketNamesCount) {
+        return new RocketReliabilityTable(
+                IntStream.range(0, rocketNamesCount).map(aggregates::successesOfRocketName).toArray(),
+                IntStream.range(0, rocketNamesCount).map(aggregates::missionsOfRocketName).toArray()
+        );
+    }
+
+    public int rocketNamesCount() {
+        return totals.length;
+    }
+
+    public int successes(int rocketName) {
+        return rocketName < successes.length ? successes[rocketName] : 0;
+    }
+
+    public int totals(int rocketName) {
+        return rocketName < totals.length ? totals[rocketName] : 0;
+    }
+
+    public boolean isUsed(int rocketName) {
+        return totals(rocketName) != 0;
+    }
+
+    public double reliability(int rocketName) {
+        int total = totals(rocketName);
+        if (total == 0) {
+            return 0.0;
+        }
+
+        return (double) (2L * successes[rocketName] + (total - successes[rocketName])) / (2L * total);
+    }
+
+    public IntStream usedRocketNames() {
+        return IntStream.range(0, totals.length).filter(this::isUsed);
+    }
+}
@@ -0,0 +1,244 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+public class SnapshotFile {
+    static final int MAGIC = 0x4D4A5353;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int NULL_LENGTH = -1;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final MissionColumns missions;
+    private final RocketColumns rockets;
+
+    private SnapshotFile(MissionColumns missions, RocketColumns rockets) {
+        this.missions = missions;
+        this.rockets = rockets;
+    }
+
+    public static void write(Path file, MissionColumns missions, RocketColumns rockets) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null.");
+        }
+
+        if (missions == null || rockets == null) {
+            throw new IllegalArgumentException("Snapshot data is null.");
+        }
+
+        MissionColumns missionsSnapshot = missions.snapshot();
+        RocketColumns rocketsSnapshot = rockets.snapshot();
+        StringDictionary rocketNames = rocketsSnapshot.rocketNames();
+        if (!rocketNames.sharesCodesWith(missionsSnapshot.rocketNames())) {
+            throw new IllegalArgumentException("Missions and rockets don't share rocket names.");
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            writeColumns(temporary, rocketNames, missionsSnapshot, rocketsSnapshot);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    public static SnapshotFile read(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File is null.");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to be mapped.");
+            }
+
+            if (size < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new StreamCorruptedException("Snapshot is truncated.");
+            }
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int contentSize = (int) size - CHECKSUM_SIZE;
+            verifyChecksum(buffer, contentSize);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("Input is not a dataset snapshot.");
+            }
+
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported snapshot version " + version + ".");
+            }
+
+            return readColumns(buffer.limit(contentSize));
+        }
+    }
+
+    public MissionColumns missions() {
+        return missions;
+    }
+
+    public RocketColumns rockets() {
+        return rockets;
+    }
+
+    static void writeStrings(DataOutputStream out, String[] values, int count) throws IOException {
+        byte[][] encoded = new byte[count][];
+        int totalLength = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded[i].length);
+                totalLength += encoded[i].length;
+            }
+        }
+
+        out.writeInt(totalLength);
+        for (byte[] bytes : encoded) {
+            if (bytes != null) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    static void writeInts(DataOutputStream out, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeInt(values[i]);
+        }
+    }
+
+    static void writeDoubles(DataOutputStream out, double[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.writeDouble(values[i]);
+        }
+    }
+
+    static String[] readStrings(ByteBuffer buffer, int count) throws StreamCorruptedException {
+        int[] lengths = readInts(buffer, count);
+        byte[] bytes = readBytes(buffer, buffer.getInt());
+
+        String[] values = new String[count];
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            if (lengths[i] != NULL_LENGTH) {
+                values[i] = new String(bytes, offset, lengths[i], StandardCharsets.UTF_8);
+                offset += lengths[i];
+            }
+        }
+
+        return values;
+    }
+
+    static int[] readInts(ByteBuffer buffer, int count) throws StreamCorruptedException {
+        checkRemaining(buffer, count, Integer.BYTES);
+
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+
+        return values;
+    }
+
+    static double[] readDoubles(ByteBuffer buffer, int count) throws StreamCorruptedException {
+        checkRemaining(buffer, count, Double.BYTES);
+
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+
+        return values;
+    }
+
+    static byte[] readBytes(ByteBuffer buffer, int count) throws StreamCorruptedException {
+        checkRemaining(buffer, count, Byte.BYTES);
+
+        byte[] values = new byte[count];
+        buffer.get(values);
+
+        return values;
+    }
+
+    static int readCount(ByteBuffer buffer) throws StreamCorruptedException {
+        checkRemaining(buffer, 1, Integer.BYTES);
+
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new StreamCorruptedException("Snapshot contains a negative count.");
+        }
+
+        return count;
+    }
+
+    private static void writeColumns(Path file, StringDictionary rocketNames, MissionColumns missions,
+                                     RocketColumns rockets) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(outputStream, new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            rocketNames.writeTo(out);
+            missions.writeTo(out);
+            rockets.writeTo(out);
+            out.flush();
+
+            outputStream.write(ByteBuffer.allocate(CHECKSUM_SIZE).putLong(checked.getChecksum().getValue()).array());
+        }
+    }
+
+    private static SnapshotFile readColumns(ByteBuffer buffer) throws StreamCorruptedException {
+        try {
+            StringDictionary rocketNames = StringDictionary.readFrom(buffer);
+            MissionColumns missions = MissionColumns.readFrom(buffer, rocketNames);
+            RocketColumns rockets = RocketColumns.readFrom(buffer, rocketNames);
+
+            if (buffer.hasRemaining()) {
+                throw new StreamCorruptedException("Snapshot has trailing bytes.");
+            }
+
+            return new SnapshotFile(missions, rockets);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            StreamCorruptedException exception = new StreamCorruptedException("Snapshot content is malformed.");
+            exception.initCause(e);
+
+            throw exception;
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer, int contentSize) throws StreamCorruptedException {
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.slice(0, contentSize));
+
+        if (checksum.getValue() != buffer.getLong(contentSize)) {
+            throw new StreamCorruptedException("Snapshot checksum doesn't match its content.");
+        }
+    }
+
+    private static void checkRemaining(ByteBuffer buffer, int count, int bytesPerValue)
+            throws StreamCorruptedException {
+        if (count < 0 || (long) count * bytesPerValue > buffer.remaining()) {
+            throw new StreamCorruptedException("Snapshot is truncated.");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class StringDictionary {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MISSING_CODE = -1;
+    private static final int EMPTY_SLOT = -1;
+
+    private final boolean isReadOnly;
+
+    private String[] values;
+    private int size;
+    private int[] slots;
+
+    public StringDictionary() {
+        this.isReadOnly = false;
+        this.values = new String[INITIAL_CAPACITY];
+        this.size = 0;
+        this.slots = emptySlots(INITIAL_CAPACITY * 2);
+    }
+
+    private StringDictionary(StringDictionary source) {
+        this.isReadOnly = true;
+        this.values = source.values;
+        this.size = source.size;
+        this.slots = source.slots;
+    }
+
+    private StringDictionary(String[] values) {
+        this.isReadOnly = false;
+        this.values = Arrays.copyOf(values, Math.max(INITIAL_CAPACITY, values.length));
+        this.size = 0;
+        this.slots = emptySlots(Integer.highestOneBit(this.values.length) * 4);
+
+        for (String value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value is null.");
+            }
+
+            int slot = findSlot(value);
+            if (codeAt(slot) != EMPTY_SLOT) {
+                throw new IllegalArgumentException("Values contain duplicates.");
+            }
+
+            slots[slot] = size++;
+        }
+    }
+
+    static StringDictionary readFrom(ByteBuffer buffer) throws StreamCorruptedException {
+        return new StringDictionary(SnapshotFile.readStrings(buffer, SnapshotFile.readCount(buffer)));
+    }
+
+    public StringDictionary snapshot() {
+        return isReadOnly ? this : new StringDictionary(this);
+    }
+
+    public int encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value is null.");
+        }
+
+        int slot = findSlot(value);
+        if (codeAt(slot) != EMPTY_SLOT) {
+            return codeAt(slot);
+        }
+
+        return insert(slot, value);
+    }
+
+    public int encode(char[] chars, int start, int end) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Chars are null.");
+        }
+
+        int slot = findSlot(chars, start, end);
+        if (codeAt(slot) != EMPTY_SLOT) {
+            return codeAt(slot);
+        }
+
+        return insert(slot, new String(chars, start, end - start));
+    }
+
+    public int[] encodeAll(StringDictionary other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Dictionary is null.");
+        }
+
+        int[] codes = new int[other.size];
+        for (int code = 0; code < other.size; code++) {
+            codes[code] = encode(other.values[code]);
+        }
+
+        return codes;
+    }
+
+    public int codeOf(String value) {
+        if (value == null) {
+            return MISSING_CODE;
+        }
+
+        int code = codeAt(findSlot(value));
+
+        return code == EMPTY_SLOT ? MISSING_CODE : code;
+    }
+
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Code is not present in the dictionary.");
+        }
+
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    boolean sharesCodesWith(StringDictionary other) {
+        return other != null && values == other.values && size == other.size;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        SnapshotFile.writeStrings(out, values, size);
+    }
+
+    private int insert(int slot, String value) {
+        if (isReadOnly) {
+            throw new IllegalStateException("Dictionary is read-only.");
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        values[size] = value;
+        slots[slot] = size;
+        size++;
+
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+
+        return size - 1;
+    }
+
+    private int findSlot(String value) {
+        int mask = slots.length - 1;
+        int slot = spread(value.hashCode()) & mask;
+
+        while (codeAt(slot) != EMPTY_SLOT && !values[codeAt(slot)].equals(value)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private int findSlot(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+
+        while (codeAt(slot) != EMPTY_SLOT && !matches(values[codeAt(slot)], chars, start, end)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private int codeAt(int slot) {
+        int code = slots[slot];
+
+        return code < size ? code : EMPTY_SLOT;
+    }
+
+    private void rehash() {
+        slots = emptySlots(slots.length * 2);
+
+        for (int code = 0; code < size; code++) {
+            int slot = findSlot(values[code]);
+            slots[slot] = code;
+        }
+    }
+
+    private static boolean matches(String value, char[] chars, int start, int end) {
+        if (value.length() != end - start) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] emptySlots(int capacity) {
+        int[] emptySlots = new int[capacity];
+        Arrays.fill(emptySlots, EMPTY_SLOT);
+
+        return emptySlots;
+    }
+}
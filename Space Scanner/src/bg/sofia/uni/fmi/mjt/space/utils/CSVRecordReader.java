@@ -0,0 +1,125 @@
+package bg.sofia.uni.fmi.mjt.space.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+public class CSVRecordReader implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final char DEFAULT_DELIMITER = ',';
+    private static final char DEFAULT_INSIDE_DELIMITER = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final Reader reader;
+
+    private char[] buffer;
+    private int start;
+    private int end;
+    private int scanPosition;
+    private boolean isInside;
+    private boolean endOfInput;
+
+    public CSVRecordReader(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CSVRecordReader(Reader reader, int bufferSize) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader is null.");
+        }
+
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size is less than 1.");
+        }
+
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    public CSVRecordReader(char[] chars, int start, int end) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Chars are null.");
+        }
+
+        if (start < 0 || start > end || end > chars.length) {
+            throw new IllegalArgumentException("Bounds are outside of the chars.");
+        }
+
+        this.reader = null;
+        this.buffer = chars;
+        this.start = start;
+        this.end = end;
+        this.scanPosition = start;
+        this.endOfInput = true;
+    }
+
+    public boolean nextRecord(CSVTokenizer tokenizer) throws IOException {
+        while (true) {
+            while (scanPosition < end) {
+                char c = buffer[scanPosition++];
+
+                if (c == DEFAULT_INSIDE_DELIMITER) {
+                    isInside = !isInside;
+                } else if (c == LINE_FEED && !isInside && emitRecord(tokenizer, scanPosition - 1)) {
+                    return true;
+                }
+            }
+
+            if (endOfInput) {
+                return start < end && emitRecord(tokenizer, end);
+            }
+
+            fill();
+        }
+    }
+
+    public boolean skipRecord() throws IOException {
+        return nextRecord(new CSVTokenizer(DEFAULT_DELIMITER));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    private boolean emitRecord(CSVTokenizer tokenizer, int recordEnd) {
+        int recordStart = start;
+        start = recordEnd == end ? end : recordEnd + 1;
+
+        if (recordEnd > recordStart && buffer[recordEnd - 1] == CARRIAGE_RETURN) {
+            recordEnd--;
+        }
+
+        if (recordEnd == recordStart) {
+            return false;
+        }
+
+        tokenizer.reset(buffer, recordStart, recordEnd);
+
+        return true;
+    }
+
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            scanPosition -= start;
+            end -= start;
+            start = 0;
+        }
+
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int read = reader.read(buffer, end, buffer.length - end);
+        if (read == -1) {
+            endOfInput = true;
+        } else {
+            end += read;
+        }
+    }
+}
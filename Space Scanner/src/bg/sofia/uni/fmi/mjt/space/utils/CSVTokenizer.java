@@ -0,0 +1,153 @@
+package bg.sofia.uni.fmi.mjt.space.utils;
+
+import java.util.NoSuchElementException;
+
+public class CSVTokenizer {
+    private static final char DEFAULT_INSIDE_DELIMITER = '"';
+
+    private final char delimiter;
+
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean exhausted;
+
+    private int fieldStart;
+    private int fieldEnd;
+
+    public CSVTokenizer(char delimiter) {
+        this.delimiter = delimiter;
+        this.buffer = new char[0];
+        this.exhausted = true;
+    }
+
+    public CSVTokenizer reset(char[] buffer, int start, int end) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer is null.");
+        }
+
+        if (start < 0 || start > end || end > buffer.length) {
+            throw new IllegalArgumentException("Record bounds are outside of the buffer.");
+        }
+
+        this.buffer = buffer;
+        this.position = start;
+        this.limit = end;
+        this.exhausted = false;
+        this.fieldStart = start;
+        this.fieldEnd = start;
+
+        return this;
+    }
+
+    public CSVTokenizer reset(String line) {
+        return reset(line.toCharArray(), 0, line.length());
+    }
+
+    public boolean hasNextField() {
+        return !exhausted;
+    }
+
+    public CSVTokenizer nextField() {
+        if (exhausted) {
+            throw new NoSuchElementException("Record has no more fields.");
+        }
+
+        int start = position;
+        int end = start;
+        boolean isInside = false;
+
+        while (end < limit && (isInside || buffer[end] != delimiter)) {
+            if (buffer[end] == DEFAULT_INSIDE_DELIMITER) {
+                isInside = !isInside;
+            }
+            end++;
+        }
+
+        if (end == limit) {
+            exhausted = true;
+        }
+        position = end + 1;
+
+        setField(start, end);
+
+        return this;
+    }
+
+    public CSVTokenizer skipFields(int count) {
+        for (int i = 0; i < count; i++) {
+            nextField();
+        }
+
+        return this;
+    }
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public int fieldStart() {
+        return fieldStart;
+    }
+
+    public int fieldEnd() {
+        return fieldEnd;
+    }
+
+    public int fieldLength() {
+        return fieldEnd - fieldStart;
+    }
+
+    public boolean isFieldBlank() {
+        return fieldStart == fieldEnd;
+    }
+
+    public boolean fieldEquals(String value) {
+        if (value.length() != fieldLength()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (buffer[fieldStart + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public String field() {
+        return new String(buffer, fieldStart, fieldLength());
+    }
+
+    public double fieldAsDouble() {
+        return CharSliceParser.parseDouble(buffer, fieldStart, fieldEnd);
+    }
+
+    public long fieldAsEpochDay() {
+        return CharSliceParser.epochDayOfShortDate(buffer, fieldStart, fieldEnd);
+    }
+
+    private void setField(int start, int end) {
+        fieldStart = start;
+        fieldEnd = end;
+        stripField();
+
+        if (fieldLength() >= 2 &&
+                buffer[fieldStart] == DEFAULT_INSIDE_DELIMITER && buffer[fieldEnd - 1] == DEFAULT_INSIDE_DELIMITER) {
+            fieldStart++;
+            fieldEnd--;
+            stripField();
+        }
+    }
+
+    private void stripField() {
+        while (fieldStart < fieldEnd && Character.isWhitespace(buffer[fieldStart])) {
+            fieldStart++;
+        }
+
+        while (fieldEnd > fieldStart && Character.isWhitespace(buffer[fieldEnd - 1])) {
+            fieldEnd--;
+        }
+    }
+}
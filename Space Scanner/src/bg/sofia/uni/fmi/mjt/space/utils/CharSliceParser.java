@@ -0,0 +1,152 @@
+package bg.sofia.uni.fmi.mjt.space.utils;
+
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+public class CharSliceParser {
+    private static final char GROUPING_SEPARATOR = ',';
+    private static final char DECIMAL_SEPARATOR = '.';
+    private static final char DATE_SEPARATOR = ',';
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final String[] MONTHS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+    private static final int MONTH_LENGTH = 3;
+
+    private CharSliceParser() {
+    }
+
+    public static double parseDouble(char[] chars, int start, int end) {
+        int position = start;
+        boolean isNegative = position < end && chars[position] == '-';
+        if (isNegative) {
+            position++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean isFraction = false;
+
+        for (; position < end && !Character.isWhitespace(chars[position]); position++) {
+            char c = chars[position];
+
+            if (c >= '0' && c <= '9') {
+                if (digits == MAX_EXACT_DIGITS) {
+                    return parseDoubleSlowly(chars, start, end);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits += mantissa == 0 ? 0 : 1;
+                fractionDigits += isFraction ? 1 : 0;
+            } else if (c == DECIMAL_SEPARATOR && !isFraction) {
+                isFraction = true;
+            } else if (c != GROUPING_SEPARATOR || isFraction) {
+                throw new NumberFormatException("Invalid number: " + new String(chars, start, end - start));
+            }
+        }
+
+        if (position == start + (isNegative ? 1 : 0)) {
+            throw new NumberFormatException("Empty number.");
+        }
+
+        if (fractionDigits >= POWERS_OF_TEN.length) {
+            return parseDoubleSlowly(chars, start, end);
+        }
+
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+
+        return isNegative ? -value : value;
+    }
+
+    public static long epochDayOfShortDate(char[] chars, int start, int end) {
+        int position = skipWhitespace(chars, skipLetters(chars, start, end), end);
+
+        int month = monthAt(chars, position, end);
+        if (month == 0) {
+            throw dateParseException(chars, start, end, position);
+        }
+        position = skipWhitespace(chars, position + MONTH_LENGTH, end);
+
+        int dayStart = position;
+        int day = 0;
+        for (; position < end && Character.isDigit(chars[position]); position++) {
+            day = day * 10 + (chars[position] - '0');
+        }
+
+        if (position == dayStart || position == end || chars[position] != DATE_SEPARATOR) {
+            throw dateParseException(chars, start, end, position);
+        }
+        position = skipWhitespace(chars, position + 1, end);
+
+        int yearStart = position;
+        int year = 0;
+        for (; position < end && Character.isDigit(chars[position]); position++) {
+            year = year * 10 + (chars[position] - '0');
+        }
+
+        if (position == yearStart || position != end) {
+            throw dateParseException(chars, start, end, position);
+        }
+
+        try {
+            return LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), CharBuffer.wrap(chars, start, end - start), 0, e);
+        }
+    }
+
+    private static double parseDoubleSlowly(char[] chars, int start, int end) {
+        StringBuilder number = new StringBuilder(end - start);
+        for (int position = start; position < end && !Character.isWhitespace(chars[position]); position++) {
+            if (chars[position] != GROUPING_SEPARATOR) {
+                number.append(chars[position]);
+            }
+        }
+
+        return Double.parseDouble(number.toString());
+    }
+
+    private static int monthAt(char[] chars, int position, int end) {
+        if (end - position < MONTH_LENGTH) {
+            return 0;
+        }
+
+        for (int month = 0; month < MONTHS.length; month++) {
+            String name = MONTHS[month];
+            if (chars[position] == name.charAt(0) &&
+                    chars[position + 1] == name.charAt(1) &&
+                    chars[position + 2] == name.charAt(2)) {
+                return month + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    private static int skipLetters(char[] chars, int position, int end) {
+        while (position < end && Character.isLetter(chars[position])) {
+            position++;
+        }
+
+        return position;
+    }
+
+    private static int skipWhitespace(char[] chars, int position, int end) {
+        while (position < end && Character.isWhitespace(chars[position])) {
+            position++;
+        }
+
+        return position;
+    }
+
+    private static DateTimeParseException dateParseException(char[] chars, int start, int end, int position) {
+        return new DateTimeParseException("Date is not in the expected format.",
+                CharBuffer.wrap(chars, start, end - start), position - start);
+    }
+}
@@ -3,12 +3,15 @@ package bg.sofia.uni.fmi.mjt.space;
 import bg.sofia.uni.fmi.mjt.space.algorithm.Rijndael;
 import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
 import bg.sofia.uni.fmi.mjt.space.exception.TimeFrameMismatchException;
+import bg.sofia.uni.fmi.mjt.space.export.ResultReader;
 import bg.sofia.uni.fmi.mjt.space.mission.Mission;
 import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
 import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
 import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+import bg.sofia.uni.fmi.mjt.space.store.ExecutionMode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -16,16 +19,26 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -53,6 +66,10 @@ public class MJTSpaceScannerTest {
     private static final String WIKI_STARSHIP_PROTOTYPE = "https://en.wikipedia.org/wiki/SpaceX_Starship";
     private static final String WIKI_PROTON_M_BRIZ_M = "https://en.wikipedia.org/wiki/Proton-M";
 
+    private static final int SYNTHETIC_MISSIONS_COUNT = 20_000;
+    private static final int SYNTHETIC_ROCKETS_COUNT = 200;
+    private static final int SYNTHETIC_PARALLELISM = 4;
+
     private static final String ROCKETS_HEADER = "\"\",Name,Wiki,Rocket Height";
     private static final String ROCKET_FALCON_9_BLOCK_5_DATA =
             "169,Falcon 9 Block 5," + WIKI_FALCON_9_BLOCK_5_DATA + ",70.0 m";
@@ -110,6 +127,19 @@ public class MJTSpaceScannerTest {
                     "Falcon 9 Block 5 | Ekspress-80 & Ekspress-103,StatusActive,\"65.0 \"," +
                     MissionStatus.PRELAUNCH_FAILURE;
 
+    private static final String MISSION_6_LOCATION =
+            "SLC-40, Cape Canaveral AFS, Florida, " + COUNTRY_USA;
+    private static final String MISSION_6_ROCKET_LAB =
+            "6,Rocket Lab,\"" + MISSION_6_LOCATION + "\",\"Sat Jan 15, 2022\"," +
+                    "Falcon 9 Block 5 | Starlink Group 4-6,StatusActive,\"50.0 \"," +
+                    MissionStatus.SUCCESS;
+    private static final String MISSION_7_SPACE_X =
+            "7,SpaceX,\"" + MISSION_6_LOCATION + "\",\"Sun Jan 16, 2022\"," +
+                    "Falcon Heavy | USSF-44,StatusActive,," +
+                    MissionStatus.SUCCESS;
+    private static final String MISSION_WITH_INVALID_ROCKET_STATUS =
+            "8,SpaceX,USA,\"Mon Jan 17, 2022\",Falcon 9 Block 5 | Test,StatusUnknown,," + MissionStatus.SUCCESS;
+
     private static final String MISSIONS_DATA = MISSIONS_HEADER + System.lineSeparator() +
             MISSION_0_SPACE_X + System.lineSeparator() +
             MISSION_1_CASC + System.lineSeparator() +
@@ -125,6 +155,9 @@ public class MJTSpaceScannerTest {
             ROCKET_PROTON_M_BRIZ_M_DATA + System.lineSeparator() +
             ROCKET_TSYKLON_3;
 
+    @TempDir
+    private Path directory;
+
     @BeforeAll
     public static void init() throws NoSuchAlgorithmException {
         secretKey = generateSecretKey();
@@ -257,6 +290,17 @@ public class MJTSpaceScannerTest {
                 "When tested getMissionsPerCountry(), the method didn't return what was expected.");
     }
 
+    @Test
+    public void testGetMissionsPerCountryIsMemoizedAndUnmodifiable() {
+        Map<String, Collection<Mission>> missionsPerCountry = spaceScanner.getMissionsPerCountry();
+
+        assertSame(missionsPerCountry, spaceScanner.getMissionsPerCountry(),
+                "When tested getMissionsPerCountry() twice, the method didn't return the memoized map.");
+        assertThrows(UnsupportedOperationException.class,
+                () -> missionsPerCountry.get(COUNTRY_USA).add(mission1Casc),
+                "When tested getMissionsPerCountry(), the method returned a modifiable collection.");
+    }
+
     @Test
     public void testGetMissionsPerCountryWithNoMissions() {
         assertTrue(emptySpaceScanner.getMissionsPerCountry().isEmpty(),
@@ -438,6 +482,23 @@ public class MJTSpaceScannerTest {
                 "When tested getTopNTallestRockets(...), the method didn't return what was expected.");
     }
 
+    @Test
+    public void testGetTopNTallestRocketsWithEqualHeights() {
+        String rocketN1L3 = "261,N1-L3,https://en.wikipedia.org/wiki/N1_(rocket),105.0 m";
+        String rocketN1L3M = "262,N1-L3 M,https://en.wikipedia.org/wiki/N1_(rocket),105.0 m";
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_HEADER),
+                new StringReader(ROCKETS_DATA + System.lineSeparator() +
+                        rocketN1L3 + System.lineSeparator() + rocketN1L3M),
+                secretKey
+        );
+
+        assertEquals(List.of(Rocket.of(rocketN1L3M), Rocket.of(rocketN1L3), rocketFalcon9Block5),
+                scanner.getTopNTallestRockets(3),
+                "When tested getTopNTallestRockets(...) with rockets of equal height, " +
+                        "the rocket from the later row didn't come first.");
+    }
+
     @Test
     public void testGetTopNTallestRocketsWithNoRockets() {
         assertTrue(emptySpaceScanner.getTopNTallestRockets(2).isEmpty(),
@@ -536,6 +597,49 @@ public class MJTSpaceScannerTest {
                         "the method didn't return empty list.");
     }
 
+    @Test
+    public void testGetReliabilityPerRocket() {
+        Map<String, Double> expected = Map.of(
+                rocketFalcon9Block5.name(), 5.0 / 6,
+                rocketLongMarch2D.name(), 0.5,
+                rocketStarshipPrototype.name(), 1.0,
+                rocketProtonMBrizM.name(), 0.5
+        );
+
+        assertEquals(expected,
+                spaceScanner.getReliabilityPerRocket(LocalDate.of(1957, 1, 1), LocalDate.of(2100, 1, 1)),
+                "When tested getReliabilityPerRocket(...), the method didn't return fractional reliabilities.");
+    }
+
+    @Test
+    public void testGetReliabilityPerRocketInTimeFrame() {
+        Map<String, Double> expected = Map.of(
+                rocketFalcon9Block5.name(), 1.0,
+                rocketLongMarch2D.name(), 0.5,
+                rocketProtonMBrizM.name(), 0.5
+        );
+
+        assertEquals(expected,
+                spaceScanner.getReliabilityPerRocket(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31)),
+                "When tested getReliabilityPerRocket(...) in a time frame, " +
+                        "the method didn't return what was expected.");
+    }
+
+    @Test
+    public void testGetTopNMostReliableRockets() {
+        assertEquals(List.of(rocketStarshipPrototype, rocketFalcon9Block5, rocketLongMarch2D),
+                spaceScanner.getTopNMostReliableRockets(3, LocalDate.of(1957, 1, 1), LocalDate.of(2100, 1, 1)),
+                "When tested getTopNMostReliableRockets(...), the method didn't return what was expected.");
+    }
+
+    @Test
+    public void testGetTopNMostReliableRocketsWithInvalidTimeFrame() {
+        assertThrows(TimeFrameMismatchException.class,
+                () -> spaceScanner.getTopNMostReliableRockets(1, LocalDate.of(2020, 1, 1), LocalDate.of(2019, 1, 1)),
+                "When tested getTopNMostReliableRockets(...) with invalid time frame, " +
+                        "the method didn't throw TimeFrameMismatchException.");
+    }
+
     @Test
     public void testSaveMostReliableRocketWithNoRockets() {
         String expected = "";
@@ -627,6 +731,349 @@ public class MJTSpaceScannerTest {
         }
     }
 
+    @Test
+    public void testExportEncryptedWithNullQuery() {
+        assertThrows(IllegalArgumentException.class,
+                () -> spaceScanner.exportEncrypted(null, new ByteArrayOutputStream()),
+                "When tested exportEncrypted(...) with null query, " +
+                        "the method didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testExportEncryptedMissionsPerCountry() throws CipherException, IOException {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        spaceScanner.exportEncrypted(SpaceScannerAPI::getMissionsPerCountry, encrypted);
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        new Rijndael(secretKey).decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+
+        assertEquals(spaceScanner.getMissionsPerCountry(),
+                new ResultReader(new ByteArrayInputStream(decrypted.toByteArray())).readResult(),
+                "When tested exportEncrypted(...) with missions per country, " +
+                        "the decrypted result didn't match the query result.");
+    }
+
+    @Test
+    public void testExportEncryptedWikiPages() throws CipherException, IOException {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        spaceScanner.exportEncrypted(SpaceScannerAPI::getWikiPageForRocket, encrypted);
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        new Rijndael(secretKey).decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+
+        assertEquals(spaceScanner.getWikiPageForRocket(),
+                new ResultReader(new ByteArrayInputStream(decrypted.toByteArray())).readResult(),
+                "When tested exportEncrypted(...) with wiki pages, " +
+                        "the decrypted result didn't match the query result.");
+    }
+
+    @Test
+    public void testAddMissionWithNullMission() {
+        assertThrows(IllegalArgumentException.class,
+                () -> spaceScanner.addMission(null),
+                "When tested addMission(...) with null mission, the method didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testAddMissionUpdatesAggregates() {
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+        Mission mission = Mission.of(MISSION_6_ROCKET_LAB);
+
+        scanner.addMission(mission);
+
+        assertEquals(mission,
+                List.copyOf(scanner.getAllMissions()).get(6),
+                "When tested addMission(...), the mission was not added at the end of the dataset.");
+        assertEquals(Set.of(mission0SpaceX, mission2SpaceX, mission),
+                scanner.getMissionsPerCountry().get(COUNTRY_USA),
+                "When tested addMission(...), the missions per country were not updated.");
+        assertEquals(MISSION_6_LOCATION,
+                scanner.getMostDesiredLocationForMissionsPerCompany().get("Rocket Lab"),
+                "When tested addMission(...), the most desired location per company was not updated.");
+    }
+
+    @Test
+    public void testAddMissionInvalidatesMemoizedGroups() {
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+        Map<String, Collection<Mission>> missionsPerCountry = scanner.getMissionsPerCountry();
+        Map<String, String> mostDesiredLocations = scanner.getMostDesiredLocationForMissionsPerCompany();
+        Mission mission = Mission.of(MISSION_6_ROCKET_LAB);
+
+        scanner.addMission(mission);
+
+        assertEquals(Set.of(mission0SpaceX, mission2SpaceX), missionsPerCountry.get(COUNTRY_USA),
+                "When tested addMission(...), a previously returned map was changed.");
+        assertEquals(Set.of(mission0SpaceX, mission2SpaceX, mission),
+                scanner.getMissionsPerCountry().get(COUNTRY_USA),
+                "When tested addMission(...), the memoized missions per country were not invalidated.");
+        assertEquals(MISSION_6_LOCATION,
+                scanner.getMostDesiredLocationForMissionsPerCompany().get("Rocket Lab"),
+                "When tested addMission(...), the memoized most desired locations were not invalidated.");
+        assertFalse(mostDesiredLocations.containsKey("Rocket Lab"),
+                "When tested addMission(...), a previously returned map was changed.");
+    }
+
+    @Test
+    public void testAppendMissionsWithNullReader() {
+        assertThrows(IllegalArgumentException.class,
+                () -> spaceScanner.appendMissions(null),
+                "When tested appendMissions(...) with null reader, " +
+                        "the method didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testAppendMissionsKeepsPreviousSnapshots() {
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+        Collection<Mission> before = scanner.getAllMissions();
+        Map<String, Collection<Mission>> missionsPerCountryBefore = scanner.getMissionsPerCountry();
+
+        scanner.appendMissions(
+                new StringReader(MISSION_6_ROCKET_LAB + System.lineSeparator() + MISSION_7_SPACE_X)
+        );
+
+        assertEquals(6, before.size(),
+                "When tested appendMissions(...), a collection returned earlier was changed.");
+        assertEquals(8, scanner.getAllMissions().size(),
+                "When tested appendMissions(...), the missions were not appended.");
+        assertEquals(Set.of(mission0SpaceX, mission2SpaceX),
+                missionsPerCountryBefore.get(COUNTRY_USA),
+                "When tested appendMissions(...), a map returned earlier was changed.");
+        assertEquals(4, scanner.getMissionsPerCountry().get(COUNTRY_USA).size(),
+                "When tested appendMissions(...), the missions per country were not updated.");
+        assertEquals("SpaceX",
+                scanner.getCompanyWithMostSuccessfulMissions(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+                "When tested appendMissions(...), the time-windowed queries didn't see the appended missions.");
+    }
+
+    @Test
+    public void testAppendMissionsWithInvalidMissionsAppendsNothing() {
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+
+        assertThrows(IllegalArgumentException.class,
+                () -> scanner.appendMissions(new StringReader(
+                        MISSION_6_ROCKET_LAB + System.lineSeparator() + MISSION_WITH_INVALID_ROCKET_STATUS
+                )),
+                "When tested appendMissions(...) with invalid missions, " +
+                        "the method didn't throw IllegalArgumentException.");
+        assertEquals(6, scanner.getAllMissions().size(),
+                "When tested appendMissions(...) with invalid missions, some of the missions were appended.");
+    }
+
+    @Test
+    public void testConstructorWithNullExecutionMode() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MJTSpaceScanner(
+                        new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey, null
+                ),
+                "When tested MJTSpaceScanner(...) with null execution mode, " +
+                        "the constructor didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testParallelModeMatchesSequentialMode() {
+        String missionsData = syntheticMissions();
+        String rocketsData = syntheticRockets();
+        ForkJoinPool pool = new ForkJoinPool(SYNTHETIC_PARALLELISM);
+
+        try {
+            MJTSpaceScanner sequential = new MJTSpaceScanner(
+                    new StringReader(missionsData), new StringReader(rocketsData), secretKey
+            );
+            MJTSpaceScanner parallel = new MJTSpaceScanner(
+                    new StringReader(missionsData), new StringReader(rocketsData), secretKey,
+                    ExecutionMode.parallel(pool)
+            );
+
+            LocalDate from = LocalDate.of(1990, 1, 1);
+            LocalDate to = LocalDate.of(2010, 6, 30);
+            List<Function<SpaceScannerAPI, ?>> queries = List.of(
+                    SpaceScannerAPI::getAllMissions,
+                    scanner -> scanner.getAllMissions(MissionStatus.SUCCESS),
+                    scanner -> scanner.getCompanyWithMostSuccessfulMissions(from, to),
+                    SpaceScannerAPI::getMissionsPerCountry,
+                    scanner -> scanner.getTopNLeastExpensiveMissions(50, MissionStatus.SUCCESS,
+                            RocketStatus.STATUS_ACTIVE),
+                    SpaceScannerAPI::getMostDesiredLocationForMissionsPerCompany,
+                    scanner -> scanner.getLocationWithMostSuccessfulMissionsPerCompany(from, to),
+                    SpaceScannerAPI::getAllRockets,
+                    scanner -> scanner.getTopNTallestRockets(20),
+                    SpaceScannerAPI::getWikiPageForRocket,
+                    scanner -> scanner.getWikiPagesForRocketsUsedInMostExpensiveMissions(50,
+                            MissionStatus.FAILURE, RocketStatus.STATUS_RETIRED),
+                    scanner -> scanner.getReliabilityPerRocket(from, to),
+                    scanner -> scanner.getTopNMostReliableRockets(20, from, to)
+            );
+
+            for (int i = 0; i < queries.size(); i++) {
+                assertEquals(queries.get(i).apply(sequential), queries.get(i).apply(parallel),
+                        "When tested query " + i + " in parallel mode, the result didn't match sequential mode.");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testAppendsAfterQueriesMatchFreshlyLoadedScanner() {
+        String[] missionLines = syntheticMissions().split(System.lineSeparator());
+        String rocketsData = syntheticRockets();
+        int loadedCount = missionLines.length / 2;
+        int batchSize = loadedCount / 4;
+
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(2030, 6, 30);
+        List<Function<SpaceScannerAPI, ?>> queries = List.of(
+                scanner -> scanner.getCompanyWithMostSuccessfulMissions(from, to),
+                scanner -> scanner.getTopNLeastExpensiveMissions(50, MissionStatus.SUCCESS,
+                        RocketStatus.STATUS_ACTIVE),
+                scanner -> scanner.getLocationWithMostSuccessfulMissionsPerCompany(from, to),
+                scanner -> scanner.getWikiPagesForRocketsUsedInMostExpensiveMissions(50,
+                        MissionStatus.FAILURE, RocketStatus.STATUS_RETIRED),
+                scanner -> scanner.getReliabilityPerRocket(from, to)
+        );
+
+        MJTSpaceScanner appended = new MJTSpaceScanner(
+                new StringReader(String.join(System.lineSeparator(), List.of(missionLines).subList(0, loadedCount))),
+                new StringReader(rocketsData), secretKey
+        );
+        for (int start = loadedCount; start < missionLines.length; start += batchSize) {
+            int end = Math.min(missionLines.length, start + batchSize);
+            queries.forEach(query -> query.apply(appended));
+
+            appended.addMission(Mission.of(missionLines[start]));
+            appended.appendMissions(new StringReader(
+                    String.join(System.lineSeparator(), List.of(missionLines).subList(start + 1, end))
+            ));
+        }
+        String laterMission = MISSION_4_ROSCOSMOS.replace("2060", "2061");
+        queries.forEach(query -> query.apply(appended));
+        appended.addMission(Mission.of(laterMission));
+
+        MJTSpaceScanner loaded = new MJTSpaceScanner(
+                new StringReader(String.join(System.lineSeparator(), missionLines) +
+                        System.lineSeparator() + laterMission),
+                new StringReader(rocketsData), secretKey
+        );
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(queries.get(i).apply(loaded), queries.get(i).apply(appended),
+                    "When tested query " + i + " after appends, the result didn't match a freshly loaded scanner.");
+        }
+    }
+
+    @Test
+    public void testFromSnapshotMatchesSavedScanner() {
+        MJTSpaceScanner scanner = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+        scanner.addMission(Mission.of(MISSION_6_ROCKET_LAB));
+        Path snapshotFile = directory.resolve("dataset.snapshot");
+
+        scanner.saveSnapshot(snapshotFile);
+        MJTSpaceScanner restored = MJTSpaceScanner.fromSnapshot(snapshotFile, secretKey);
+
+        assertEquals(scanner.getAllMissions(), restored.getAllMissions(),
+                "When tested fromSnapshot(...), the missions didn't match the saved ones.");
+        assertEquals(scanner.getAllRockets(), restored.getAllRockets(),
+                "When tested fromSnapshot(...), the rockets didn't match the saved ones.");
+        assertEquals(scanner.getMissionsPerCountry(), restored.getMissionsPerCountry(),
+                "When tested fromSnapshot(...), the missions per country didn't match the saved ones.");
+    }
+
+    @Test
+    public void testFromSnapshotAfterMissionWithUnseenRocketName() {
+        MJTSpaceScanner saved = new MJTSpaceScanner(
+                new StringReader(MISSIONS_DATA), new StringReader(ROCKETS_DATA), secretKey
+        );
+        saved.addMission(Mission.of(MISSION_7_SPACE_X));
+        Path snapshotFile = directory.resolve("dataset.snapshot");
+
+        saved.saveSnapshot(snapshotFile);
+        MJTSpaceScanner restored = MJTSpaceScanner.fromSnapshot(snapshotFile, secretKey);
+
+        LocalDate from = LocalDate.of(2000, 1, 1);
+        LocalDate to = LocalDate.of(2030, 12, 31);
+        List<Function<SpaceScannerAPI, ?>> queries = List.of(
+                SpaceScannerAPI::getAllMissions,
+                scanner -> scanner.getCompanyWithMostSuccessfulMissions(from, to),
+                SpaceScannerAPI::getMissionsPerCountry,
+                scanner -> scanner.getTopNLeastExpensiveMissions(5, MissionStatus.SUCCESS,
+                        RocketStatus.STATUS_ACTIVE),
+                SpaceScannerAPI::getMostDesiredLocationForMissionsPerCompany,
+                scanner -> scanner.getLocationWithMostSuccessfulMissionsPerCompany(from, to),
+                SpaceScannerAPI::getAllRockets,
+                scanner -> scanner.getTopNTallestRockets(5),
+                SpaceScannerAPI::getWikiPageForRocket,
+                scanner -> scanner.getWikiPagesForRocketsUsedInMostExpensiveMissions(5,
+                        MissionStatus.SUCCESS, RocketStatus.STATUS_ACTIVE),
+                scanner -> scanner.getReliabilityPerRocket(from, to),
+                scanner -> scanner.getTopNMostReliableRockets(5, from, to)
+        );
+
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(queries.get(i).apply(saved), queries.get(i).apply(restored),
+                    "When tested fromSnapshot(...) after a mission with an unseen rocket name, " +
+                            "query " + i + " didn't match the saved scanner.");
+        }
+    }
+
+    @Test
+    public void testFromSnapshotWithCorruptedFile() throws IOException {
+        Path snapshotFile = Files.writeString(directory.resolve("dataset.snapshot"), MISSIONS_DATA);
+
+        assertThrows(UncheckedIOException.class, () -> MJTSpaceScanner.fromSnapshot(snapshotFile, secretKey),
+                "When tested fromSnapshot(...) with a corrupted file, " +
+                        "the method didn't throw UncheckedIOException.");
+    }
+
+    private static String syntheticMissions() {
+        Random random = new Random(SYNTHETIC_MISSIONS_COUNT);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE MMM dd, yyyy", Locale.ENGLISH);
+        LocalDate firstDate = LocalDate.of(1957, 10, 4);
+        String[] companies = {"SpaceX", "CASC", "Roscosmos", "Rocket Lab", "Arianespace", "ISRO"};
+        String[] countries = {COUNTRY_USA, COUNTRY_CHINA, COUNTRY_KAZAKHSTAN, COUNTRY_BULGARIA};
+        MissionStatus[] missionStatuses = MissionStatus.values();
+
+        StringBuilder missions = new StringBuilder(MISSIONS_HEADER);
+        for (int i = 0; i < SYNTHETIC_MISSIONS_COUNT; i++) {
+            String cost = random.nextBoolean() ? "\"" + (random.nextInt(40) * 2.5) + " \"" : "";
+            missions.append(System.lineSeparator())
+                    .append(i).append(',')
+                    .append(companies[random.nextInt(companies.length)]).append(",\"")
+                    .append("Site ").append(random.nextInt(10)).append(", ")
+                    .append(countries[random.nextInt(countries.length)]).append("\",\"")
+                    .append(firstDate.plusDays(random.nextInt(25_000)).format(formatter)).append("\",")
+                    .append("Rocket ").append(random.nextInt(SYNTHETIC_ROCKETS_COUNT + 5))
+                    .append(" | Payload ").append(i).append(',')
+                    .append(random.nextBoolean() ? "StatusActive" : "StatusRetired").append(',')
+                    .append(cost).append(',')
+                    .append(missionStatuses[random.nextInt(missionStatuses.length)]);
+        }
+
+        return missions.toString();
+    }
+
+    private static String syntheticRockets() {
+        Random random = new Random(SYNTHETIC_ROCKETS_COUNT);
+
+        StringBuilder rockets = new StringBuilder(ROCKETS_HEADER);
+        for (int i = 0; i < SYNTHETIC_ROCKETS_COUNT; i++) {
+            rockets.append(System.lineSeparator())
+                    .append(i).append(",Rocket ").append(i).append(',')
+                    .append(random.nextBoolean() ? "https://en.wikipedia.org/wiki/Rocket_" + i : "").append(',')
+                    .append(random.nextBoolean() ? random.nextInt(30) + 20 + ".0 m" : "");
+        }
+
+        return rockets.toString();
+    }
+
     private static SecretKey generateSecretKey() throws NoSuchAlgorithmException {
         KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
         keyGenerator.init(128);
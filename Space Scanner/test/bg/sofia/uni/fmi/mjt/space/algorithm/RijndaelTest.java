@@ -1,5 +1,161 @@
 package bg.sofia.uni.fmi.mjt.space.algorithm;
 
+import bg.sofia.uni.fmi.mjt.space.exception.CipherException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public class RijndaelTest {
+    private static final int BLOCK_SIZE = 16;
+    private static final int SEGMENT_SIZE = 4 * BLOCK_SIZE;
+    private static final int[] INPUT_SIZES = {0, 1, BLOCK_SIZE, SEGMENT_SIZE - 1, SEGMENT_SIZE, 10 * SEGMENT_SIZE + 7,
+        (1 << 17) + 3};
+
+    private static SecretKey secretKey;
+
+    @BeforeAll
+    public static void setUp() throws GeneralSecurityException {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(128);
+        secretKey = keyGenerator.generateKey();
+    }
+
+    @Test
+    public void testEncryptMatchesSingleCipherCall() throws GeneralSecurityException, CipherException {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+
+            assertArrayEquals(cipher.doFinal(input), encrypt(new Rijndael(secretKey), input),
+                    "When tested encrypt(...) with " + size + " bytes, the output didn't match Cipher.doFinal(...).");
+        }
+    }
+
+    @Test
+    public void testDecryptReversesEncrypt() throws CipherException {
+        Rijndael rijndael = new Rijndael(secretKey);
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+
+            assertArrayEquals(input, decrypt(rijndael, encrypt(rijndael, input)),
+                    "When tested decrypt(...) with " + size + " bytes, the method didn't restore the input.");
+        }
+    }
+
+    @Test
+    public void testCounterModeDecryptReversesEncrypt() throws CipherException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        CounterModeRijndael rijndael = new CounterModeRijndael(secretKey, pool, SEGMENT_SIZE);
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+
+            assertArrayEquals(input, decrypt(rijndael, encrypt(rijndael, input)),
+                    "When tested counter mode decrypt(...) with " + size + " bytes, " +
+                            "the method didn't restore the input.");
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testCounterModeEncryptMatchesSingleCipherCall() throws GeneralSecurityException, CipherException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        CounterModeRijndael rijndael = new CounterModeRijndael(secretKey, pool, SEGMENT_SIZE);
+        Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+            byte[] output = encrypt(rijndael, input);
+
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(Arrays.copyOf(output, BLOCK_SIZE)));
+            assertArrayEquals(cipher.doFinal(input), Arrays.copyOfRange(output, BLOCK_SIZE, output.length),
+                    "When tested counter mode encrypt(...) with " + size + " bytes, " +
+                            "the output didn't match Cipher.doFinal(...).");
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testEncryptingMatchesEncrypt() throws CipherException, IOException {
+        Rijndael rijndael = new Rijndael(secretKey);
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+
+            assertArrayEquals(encrypt(rijndael, input), encryptByWriting(rijndael, input),
+                    "When tested encrypting(...) with " + size + " bytes, the output didn't match encrypt(...).");
+        }
+    }
+
+    @Test
+    public void testCounterModeEncryptingReversedByDecrypt() throws CipherException, IOException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        CounterModeRijndael rijndael = new CounterModeRijndael(secretKey, pool, SEGMENT_SIZE);
+
+        for (int size : INPUT_SIZES) {
+            byte[] input = randomBytes(size);
+
+            assertArrayEquals(input, decrypt(rijndael, encryptByWriting(rijndael, input)),
+                    "When tested counter mode encrypting(...) with " + size + " bytes, " +
+                            "decrypt(...) didn't restore the input.");
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testCounterModeDecryptWithMissingCounter() {
+        CounterModeRijndael rijndael = new CounterModeRijndael(secretKey);
+
+        assertThrows(CipherException.class, () -> decrypt(rijndael, new byte[BLOCK_SIZE - 1]),
+                "When tested counter mode decrypt(...) without initial counter, " +
+                        "the method didn't throw CipherException.");
+    }
+
+    private static byte[] encrypt(SymmetricBlockCipher cipher, byte[] input) throws CipherException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cipher.encrypt(new ByteArrayInputStream(input), output);
+        return output.toByteArray();
+    }
+
+    private static byte[] encryptByWriting(SymmetricBlockCipher cipher, byte[] input)
+            throws CipherException, IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream encrypting = cipher.encrypting(output)) {
+            for (int offset = 0; offset < input.length; offset += BLOCK_SIZE + 1) {
+                encrypting.write(input[offset]);
+                encrypting.write(input, offset + 1, Math.min(BLOCK_SIZE, input.length - offset - 1));
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] decrypt(SymmetricBlockCipher cipher, byte[] input) throws CipherException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cipher.decrypt(new ByteArrayInputStream(input), output);
+        return output.toByteArray();
+    }
 
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
 }
@@ -0,0 +1,104 @@
+package bg.sofia.uni.fmi.mjt.space.export;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.rocket.Rocket;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultWriterTest {
+    private static final Mission MISSION = Mission.of(
+            "0,SpaceX,\"LC-39A, Kennedy Space Center, Florida, USA\",\"Fri Aug 07, 2020\"," +
+                    "\"Falcon 9 Block 5 | Starlink V1 L9 & BlackSky\",StatusActive,\"50.0 \",Success");
+    private static final Mission MISSION_WITHOUT_COST = Mission.of(
+            "1,CASC,\"Site 9401 (SLS-2), Jiuquan Satellite Launch Center, China\",\"Thu Aug 06, 2020\"," +
+                    "Long March 2D | Gaofen-9 04 & Q-SAT,StatusActive,,Success");
+    private static final Rocket ROCKET = Rocket.of(
+            "0,Tsyklon-3,https://en.wikipedia.org/wiki/Tsyklon-3,39.0 m");
+    private static final Rocket ROCKET_WITHOUT_WIKI = Rocket.of("1,Tsyklon-4M,,38.7 m");
+
+    @Test
+    public void testWriteResultRoundTrip() throws IOException {
+        List<Object> results = Arrays.asList(
+                null,
+                true,
+                Integer.MIN_VALUE,
+                Long.MAX_VALUE,
+                -0.5,
+                "",
+                "Байконур, 東京 🚀",
+                "x".repeat(100_000),
+                LocalDate.of(1957, 10, 4),
+                Optional.empty(),
+                Optional.of("wiki"),
+                List.of(MISSION, MISSION_WITHOUT_COST),
+                List.of(ROCKET, ROCKET_WITHOUT_WIKI),
+                Set.of(ROCKET),
+                Map.of("Russia", List.of(MISSION), "China", List.of())
+        );
+
+        for (Object result : results) {
+            assertEquals(result, roundTrip(result),
+                    "When tested writeResult(...) with " + result + ", the value read back didn't match.");
+        }
+    }
+
+    @Test
+    public void testWriteResultWithUnsupportedValue() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResultWriter(new ByteArrayOutputStream()).writeResult(List.of(new Object())),
+                "When tested writeResult(...) with unsupported value, " +
+                        "the method didn't throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testReadResultWithInvalidHeader() {
+        assertThrows(StreamCorruptedException.class,
+                () -> new ResultReader(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})).readResult(),
+                "When tested readResult(...) with invalid header, " +
+                        "the method didn't throw StreamCorruptedException.");
+    }
+
+    @Test
+    public void testReadResultWithStringLongerThanInput() {
+        byte[] input = {0x4D, 0x4A, 0x54, 0x53, ResultWriter.VERSION, ValueType.STRING.tag(),
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a', 'b'};
+
+        assertThrows(StreamCorruptedException.class,
+                () -> new ResultReader(new ByteArrayInputStream(input)).readResult(),
+                "When tested readResult(...) with a string longer than the input, " +
+                        "the method didn't throw StreamCorruptedException.");
+    }
+
+    @Test
+    public void testReadResultWithUnknownStatus() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ResultWriter(output).writeResult(MISSION);
+        byte[] input = output.toByteArray();
+        input[input.length - 1 - Double.BYTES - 2] = Byte.MAX_VALUE;
+
+        assertThrows(StreamCorruptedException.class,
+                () -> new ResultReader(new ByteArrayInputStream(input)).readResult(),
+                "When tested readResult(...) with an unknown status, " +
+                        "the method didn't throw StreamCorruptedException.");
+    }
+
+    private static Object roundTrip(Object result) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ResultWriter(output).writeResult(result);
+
+        return new ResultReader(new ByteArrayInputStream(output.toByteArray())).readResult();
+    }
+}
@@ -0,0 +1,91 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BoundedRowHeapTest {
+    private static final int ROWS_COUNT = 1000;
+    private static final int DISTINCT_KEYS = 50;
+
+    private final double[] keys = new Random(ROWS_COUNT).doubles(ROWS_COUNT)
+            .map(key -> Math.floor(key * DISTINCT_KEYS))
+            .toArray();
+
+    @Test
+    public void testSmallestMatchesStableSort() {
+        for (int capacity : new int[] {1, 7, 100, ROWS_COUNT, Integer.MAX_VALUE}) {
+            BoundedRowHeap heap = BoundedRowHeap.smallest(capacity);
+            IntStream.range(0, ROWS_COUNT).forEach(row -> heap.offer(keys[row], row));
+
+            assertArrayEquals(sortedRows(Comparator.comparingDouble(row -> keys[row]), capacity),
+                    heap.toSortedRows(),
+                    "When tested smallest(" + capacity + "), the rows didn't match a stable sort.");
+        }
+    }
+
+    @Test
+    public void testLargestMatchesStableSort() {
+        for (int capacity : new int[] {1, 7, 100, ROWS_COUNT}) {
+            BoundedRowHeap heap = BoundedRowHeap.largest(capacity);
+            IntStream.range(0, ROWS_COUNT).forEach(row -> heap.offer(keys[row], row));
+
+            assertArrayEquals(
+                    sortedRows(Comparator.<Integer>comparingDouble(row -> keys[row]).reversed(), capacity),
+                    heap.toSortedRows(),
+                    "When tested largest(" + capacity + "), the rows didn't match a stable sort.");
+        }
+    }
+
+    @Test
+    public void testLargestWithDescendingRowsMatchesReversedStableSort() {
+        for (int capacity : new int[] {1, 7, 100, ROWS_COUNT}) {
+            BoundedRowHeap heap = new BoundedRowHeap(capacity, true, true);
+            IntStream.range(0, ROWS_COUNT).forEach(row -> heap.offer(keys[row], row));
+
+            assertArrayEquals(
+                    sortedRows(Comparator.<Integer>comparingDouble(row -> keys[row])
+                            .thenComparingInt(row -> row)
+                            .reversed(), capacity),
+                    heap.toSortedRows(),
+                    "When tested a largest heap with descending rows (" + capacity + "), " +
+                            "equal keys didn't keep the later row first.");
+        }
+    }
+
+    @Test
+    public void testMergeMatchesSingleHeap() {
+        BoundedRowHeap left = new BoundedRowHeap(25, true, true);
+        BoundedRowHeap right = new BoundedRowHeap(25, true, true);
+        BoundedRowHeap all = new BoundedRowHeap(25, true, true);
+
+        IntStream.range(0, ROWS_COUNT).forEach(row -> {
+            (row % 3 == 0 ? left : right).offer(keys[row], row);
+            all.offer(keys[row], row);
+        });
+        left.merge(right);
+
+        assertArrayEquals(all.toSortedRows(), left.toSortedRows(),
+                "When tested merge(...), the merged heap didn't match a heap of all rows.");
+    }
+
+    @Test
+    public void testConstructorWithNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> BoundedRowHeap.smallest(0),
+                "When tested smallest(0), the method didn't throw IllegalArgumentException.");
+    }
+
+    private int[] sortedRows(Comparator<Integer> comparator, int capacity) {
+        return IntStream.range(0, ROWS_COUNT)
+                .boxed()
+                .sorted(comparator)
+                .limit(capacity)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,108 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedCSVLoaderTest {
+    private static final long MIN_CHUNK_SIZE = 16;
+
+    private static final String MISSIONS = """
+            Unnamed: 0,Company Name,Location,Datum,Detail,Status Rocket," Rocket",Status Mission
+            0,SpaceX,"LC-39A, Kennedy Space Center, Florida, USA","Fri Aug 07, 2020",Falcon 9 Block 5 | Starlink V1 L9 & BlackSky,StatusActive,"50.0 ",Success
+            1,CASC,"Site 9401 (SLS-2), Jiuquan Satellite Launch Center, China","Thu Aug 06, 2020",Long March 4B | Gaofen-9 04 & Q-SAT,StatusActive,"29.75 ",Success
+            2,SpaceX,"Pad A, Boca Chica, Texas, USA","Tue Aug 04, 2020","Starship Prototype | 150 Meter Hop",StatusActive,,Success
+            3,Roscosmos,"Site 200/39, Baikonur Cosmodrome, Kazakhstan","Thu Jul 30, 2020",Proton-M/Briz-M | Ekspress-80 & Ekspress-103,StatusActive,"65.0 ",Success
+            4,ULA,"SLC-41, Cape Canaveral AFS, Florida, USA","Thu Jul 30, 2020","Atlas V 541 | Perseverance
+            and Ingenuity",StatusActive,"1,145.0 ",Failure
+            """;
+
+    private static final String ROCKETS = """
+            "",Name,Wiki,Rocket Height
+            0,Tsyklon-3,https://en.wikipedia.org/wiki/Tsyklon-3,39.0 m
+            1,"Falcon 9 Block 5",https://en.wikipedia.org/wiki/Falcon_9,70.0 m
+            2,Starship Prototype,https://en.wikipedia.org/wiki/SpaceX_Starship,
+            3,"Long March 4B",,44.1 m
+            """;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testLoadMissionsWithSmallChunksMatchesReaderLoading() throws IOException {
+        Path file = Files.writeString(directory.resolve("missions.csv"), MISSIONS);
+
+        for (long maxChunkSize = MIN_CHUNK_SIZE; maxChunkSize <= MISSIONS.length(); maxChunkSize *= 2) {
+            MissionColumns mapped = new MappedCSVLoader(ForkJoinPool.commonPool(), maxChunkSize)
+                    .loadMissions(file, new StringDictionary());
+
+            assertEquals(readMissions().asList(), mapped.asList(),
+                    "When tested loadMissions() with max chunk size " + maxChunkSize +
+                            ", the missions didn't match the ones loaded from a reader.");
+        }
+    }
+
+    @Test
+    public void testLoadRocketsWithSmallChunksMatchesReaderLoading() throws IOException {
+        Path file = Files.writeString(directory.resolve("rockets.csv"), ROCKETS);
+
+        for (long maxChunkSize = MIN_CHUNK_SIZE; maxChunkSize <= ROCKETS.length(); maxChunkSize *= 2) {
+            RocketColumns mapped = new MappedCSVLoader(ForkJoinPool.commonPool(), maxChunkSize)
+                    .loadRockets(file, new StringDictionary());
+
+            assertEquals(readRockets().asList(), mapped.asList(),
+                    "When tested loadRockets() with max chunk size " + maxChunkSize +
+                            ", the rockets didn't match the ones loaded from a reader.");
+        }
+    }
+
+    @Test
+    public void testLoadSharesRocketNamesDictionary() throws IOException {
+        Path missionsFile = Files.writeString(directory.resolve("missions.csv"), MISSIONS);
+        Path rocketsFile = Files.writeString(directory.resolve("rockets.csv"), ROCKETS);
+        StringDictionary rocketNames = new StringDictionary();
+        MappedCSVLoader loader = new MappedCSVLoader(ForkJoinPool.commonPool(), 64);
+
+        MissionColumns missions = loader.loadMissions(missionsFile, rocketNames);
+        RocketColumns rockets = loader.loadRockets(rocketsFile, rocketNames);
+
+        assertEquals(missions.rocketName(0), rockets.name(1),
+                "When tested loading with a shared dictionary, equal rocket names didn't get the same code.");
+    }
+
+    @Test
+    public void testLoadMissionsWithMissingFile() {
+        MappedCSVLoader loader = new MappedCSVLoader(ForkJoinPool.commonPool());
+
+        assertThrows(IOException.class,
+                () -> loader.loadMissions(directory.resolve("missing.csv"), new StringDictionary()),
+                "When tested loadMissions() with a missing file, the method didn't throw IOException.");
+    }
+
+    private MissionColumns readMissions() throws IOException {
+        MissionColumns missions = new MissionColumns(new StringDictionary());
+        try (CSVRecordReader records = new CSVRecordReader(new StringReader(MISSIONS))) {
+            new CSVColumnsLoader().loadMissions(records, missions);
+        }
+
+        return missions;
+    }
+
+    private RocketColumns readRockets() throws IOException {
+        RocketColumns rockets = new RocketColumns(new StringDictionary());
+        try (CSVRecordReader records = new CSVRecordReader(new StringReader(ROCKETS))) {
+            new CSVColumnsLoader().loadRockets(records, rockets);
+        }
+
+        return rockets;
+    }
+}
@@ -0,0 +1,183 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.mission.Detail;
+import bg.sofia.uni.fmi.mjt.space.mission.Mission;
+import bg.sofia.uni.fmi.mjt.space.mission.MissionStatus;
+import bg.sofia.uni.fmi.mjt.space.rocket.RocketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MissionDateIndexTest {
+    private static final int MISSIONS_COUNT = 500;
+    private static final int WINDOWS_COUNT = 200;
+    private static final int EXTENDED_MISSIONS_COUNT = 150;
+    private static final LocalDate FIRST_DATE = LocalDate.of(1957, 10, 4);
+    private static final int DAYS_SPAN = 3000;
+    private static final String[] COMPANIES = {"SpaceX", "CASC", "Roscosmos", "ULA"};
+    private static final String[] LOCATIONS = {"Kennedy Space Center, USA", "Jiuquan, China", "Baikonur, Kazakhstan"};
+    private static final String[] ROCKETS = {"Falcon 9", "Long March 2D", "Soyuz", "Atlas V", "Proton-M"};
+
+    private MissionColumns missions;
+    private MissionDateIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        missions = new MissionColumns(new StringDictionary());
+        addRandomMissions(missions, new Random(MISSIONS_COUNT), MISSIONS_COUNT, FIRST_DATE, COMPANIES.length);
+
+        index = new MissionDateIndex(missions);
+    }
+
+    @Test
+    public void testCountsMatchScanningForRandomWindows() {
+        Random random = new Random(WINDOWS_COUNT);
+
+        for (int i = 0; i < WINDOWS_COUNT; i++) {
+            LocalDate from = FIRST_DATE.plusDays(random.nextInt(DAYS_SPAN + 100) - 50);
+            LocalDate to = from.plusDays(random.nextInt(i % 2 == 0 ? 45 : DAYS_SPAN));
+
+            assertArrayEquals(scanSuccessfulCompanies(from, to), index.successfulMissionsPerCompany(from, to),
+                    "When tested successfulMissionsPerCompany() for " + from + " - " + to +
+                            ", the counts didn't match a full scan.");
+            assertArrayEquals(scanRocketNames(from, to, false), index.missionsPerRocketName(from, to),
+                    "When tested missionsPerRocketName() for " + from + " - " + to +
+                            ", the counts didn't match a full scan.");
+            assertArrayEquals(scanRocketNames(from, to, true), index.successfulMissionsPerRocketName(from, to),
+                    "When tested successfulMissionsPerRocketName() for " + from + " - " + to +
+                            ", the counts didn't match a full scan.");
+            assertArrayEquals(scanRows(from, to), index.rowsBetween(from, to).sorted().toArray(),
+                    "When tested rowsBetween() for " + from + " - " + to + ", the rows didn't match a full scan.");
+        }
+    }
+
+    @Test
+    public void testCompanyLocationCountsMatchScanning() {
+        LocalDate from = FIRST_DATE.plusDays(17);
+        LocalDate to = FIRST_DATE.plusDays(DAYS_SPAN / 2);
+
+        int[] counts = index.successfulMissionsPerCompanyLocation(from, to);
+        int[][] expected = new int[COMPANIES.length][LOCATIONS.length];
+        scanRowsStream(from, to)
+                .filter(row -> missions.missionStatus(row) == MissionStatus.SUCCESS)
+                .forEach(row -> expected[missions.company(row)][missions.location(row)]++);
+
+        int[][] actual = new int[COMPANIES.length][LOCATIONS.length];
+        for (int pair = 0; pair < index.companyLocationPairsCount(); pair++) {
+            actual[index.companyOfPair(pair)][index.locationOfPair(pair)] += counts[pair];
+        }
+
+        assertArrayEquals(expected, actual,
+                "When tested successfulMissionsPerCompanyLocation(), the counts didn't match a full scan.");
+    }
+
+    @Test
+    public void testExtendedIndexMatchesRebuiltIndex() {
+        MissionColumns first = missions.snapshot();
+        MissionDateIndex firstIndex = new MissionDateIndex(first);
+
+        Random random = new Random(EXTENDED_MISSIONS_COUNT);
+        addRandomMissions(missions, random, EXTENDED_MISSIONS_COUNT, FIRST_DATE.minusDays(400), COMPANIES.length);
+        MissionColumns second = missions.snapshot();
+        MissionDateIndex secondIndex = firstIndex.extendedWith(second, ExecutionMode.sequential());
+
+        addRandomMissions(missions, random, EXTENDED_MISSIONS_COUNT, FIRST_DATE.plusDays(DAYS_SPAN + 10),
+                COMPANIES.length + 1);
+        MissionColumns third = missions.snapshot();
+        MissionDateIndex thirdIndex = secondIndex.extendedWith(third, ExecutionMode.sequential());
+
+        addRandomMissions(missions, random, EXTENDED_MISSIONS_COUNT, FIRST_DATE.plusDays(2 * DAYS_SPAN + 10),
+                COMPANIES.length + 1);
+        MissionColumns fourth = missions.snapshot();
+        MissionDateIndex fourthIndex = thirdIndex.extendedWith(fourth, ExecutionMode.sequential());
+
+        assertSameWindows(new MissionDateIndex(first), firstIndex, first);
+        assertSameWindows(new MissionDateIndex(second), secondIndex, second);
+        assertSameWindows(new MissionDateIndex(third), thirdIndex, third);
+        assertSameWindows(new MissionDateIndex(fourth), fourthIndex, fourth);
+        assertSameWindows(new MissionDateIndex(third), firstIndex.extendedWith(third, ExecutionMode.sequential()),
+                third);
+    }
+
+    private void assertSameWindows(MissionDateIndex expected, MissionDateIndex actual, MissionColumns columns) {
+        Random random = new Random(WINDOWS_COUNT);
+
+        for (int i = 0; i < WINDOWS_COUNT; i++) {
+            LocalDate from = FIRST_DATE.plusDays(random.nextInt(3 * DAYS_SPAN) - DAYS_SPAN / 2);
+            LocalDate to = from.plusDays(random.nextInt(i % 2 == 0 ? 45 : 3 * DAYS_SPAN));
+
+            assertEquals(columns.size(), actual.size(),
+                    "When tested extendedWith(), the index didn't cover all rows.");
+            assertArrayEquals(expected.successfulMissionsPerCompany(from, to),
+                    actual.successfulMissionsPerCompany(from, to),
+                    "When tested an extended index for " + from + " - " + to +
+                            ", the company counts didn't match a rebuilt index.");
+            assertArrayEquals(expected.successfulMissionsPerCompanyLocation(from, to),
+                    actual.successfulMissionsPerCompanyLocation(from, to),
+                    "When tested an extended index for " + from + " - " + to +
+                            ", the company location counts didn't match a rebuilt index.");
+            assertArrayEquals(expected.missionsPerRocketName(from, to), actual.missionsPerRocketName(from, to),
+                    "When tested an extended index for " + from + " - " + to +
+                            ", the rocket name counts didn't match a rebuilt index.");
+            assertArrayEquals(expected.successfulMissionsPerRocketName(from, to),
+                    actual.successfulMissionsPerRocketName(from, to),
+                    "When tested an extended index for " + from + " - " + to +
+                            ", the successful rocket name counts didn't match a rebuilt index.");
+            assertArrayEquals(expected.rowsBetween(from, to).toArray(), actual.rowsBetween(from, to).toArray(),
+                    "When tested an extended index for " + from + " - " + to +
+                            ", the rows didn't match a rebuilt index.");
+        }
+    }
+
+    private static void addRandomMissions(MissionColumns columns, Random random, int count, LocalDate firstDate,
+                                          int companiesCount) {
+        for (int i = 0; i < count; i++) {
+            int company = random.nextInt(companiesCount);
+
+            columns.add(new Mission(
+                    String.valueOf(columns.size()),
+                    company < COMPANIES.length ? COMPANIES[company] : "Company " + company,
+                    LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    firstDate.plusDays(random.nextInt(DAYS_SPAN)),
+                    new Detail(ROCKETS[random.nextInt(ROCKETS.length)], "Payload"),
+                    RocketStatus.STATUS_ACTIVE,
+                    Optional.empty(),
+                    MissionStatus.values()[random.nextInt(MissionStatus.values().length)]
+            ));
+        }
+    }
+
+    private int[] scanSuccessfulCompanies(LocalDate from, LocalDate to) {
+        int[] counts = new int[missions.companies().size()];
+        scanRowsStream(from, to)
+                .filter(row -> missions.missionStatus(row) == MissionStatus.SUCCESS)
+                .forEach(row -> counts[missions.company(row)]++);
+
+        return counts;
+    }
+
+    private int[] scanRocketNames(LocalDate from, LocalDate to, boolean onlySuccessful) {
+        int[] counts = new int[missions.rocketNames().size()];
+        scanRowsStream(from, to)
+                .filter(row -> !onlySuccessful || missions.missionStatus(row) == MissionStatus.SUCCESS)
+                .forEach(row -> counts[missions.rocketName(row)]++);
+
+        return counts;
+    }
+
+    private int[] scanRows(LocalDate from, LocalDate to) {
+        return scanRowsStream(from, to).toArray();
+    }
+
+    private IntStream scanRowsStream(LocalDate from, LocalDate to) {
+        return missions.rows()
+                .filter(row -> missions.epochDay(row) >= from.toEpochDay() && missions.epochDay(row) <= to.toEpochDay());
+    }
+}
@@ -0,0 +1,118 @@
+package bg.sofia.uni.fmi.mjt.space.store;
+
+import bg.sofia.uni.fmi.mjt.space.utils.CSVRecordReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotFileTest {
+    private static final String MISSIONS = """
+            Unnamed: 0,Company Name,Location,Datum,Detail,Status Rocket," Rocket",Status Mission
+            0,SpaceX,"LC-39A, Kennedy Space Center, Florida, USA","Fri Aug 07, 2020",Falcon 9 Block 5 | Starlink V1 L9 & BlackSky,StatusActive,"50.0 ",Success
+            1,CASC,"Site 9401 (SLS-2), Jiuquan Satellite Launch Center, China","Thu Aug 06, 2020",Long March 4B | Gaofen-9 04 & Q-SAT,StatusRetired,"29.75 ",Failure
+            2,SpaceX,"Pad A, Boca Chica, Texas, USA","Tue Aug 04, 2020","Starship Prototype | 150 Meter Hop",StatusActive,,Success
+            3,Roscosmos,"Site 200/39, Baikonur Cosmodrome, Kazakhstan","Thu Jul 30, 2020",Proton-M/Briz-M | Ekspress-80 & Ekspress-103,StatusActive,"65.0 ",Prelaunch Failure
+            """;
+
+    private static final String ROCKETS = """
+            "",Name,Wiki,Rocket Height
+            0,Tsyklon-3,https://en.wikipedia.org/wiki/Tsyklon-3,39.0 m
+            1,"Falcon 9 Block 5",https://en.wikipedia.org/wiki/Falcon_9,70.0 m
+            2,Starship Prototype,https://en.wikipedia.org/wiki/SpaceX_Starship,
+            3,"Long March 4B",,44.1 m
+            """;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testReadMatchesWrittenColumns() throws IOException {
+        StringDictionary rocketNames = new StringDictionary();
+        MissionColumns missions = readMissions(rocketNames);
+        RocketColumns rockets = readRockets(rocketNames);
+        Path file = directory.resolve("dataset.snapshot");
+
+        SnapshotFile.write(file, missions, rockets);
+        SnapshotFile snapshot = SnapshotFile.read(file);
+
+        assertEquals(missions.asList(), snapshot.missions().asList(),
+                "When tested read(...), the missions didn't match the written ones.");
+        assertEquals(rockets.asList(), snapshot.rockets().asList(),
+                "When tested read(...), the rockets didn't match the written ones.");
+        assertEquals(snapshot.missions().rocketName(0), snapshot.rockets().name(1),
+                "When tested read(...), equal rocket names didn't get the same code.");
+    }
+
+    @Test
+    public void testReadColumnsAreWritable() throws IOException {
+        StringDictionary rocketNames = new StringDictionary();
+        MissionColumns missions = readMissions(rocketNames);
+        Path file = directory.resolve("dataset.snapshot");
+
+        SnapshotFile.write(file, missions, readRockets(rocketNames));
+        MissionColumns readMissions = SnapshotFile.read(file).missions();
+        readMissions.appendAll(missions);
+
+        assertEquals(2 * missions.size(), readMissions.size(),
+                "When tested read(...), the missions couldn't be appended to.");
+    }
+
+    @Test
+    public void testReadWithCorruptedContent() throws IOException {
+        StringDictionary rocketNames = new StringDictionary();
+        Path file = directory.resolve("dataset.snapshot");
+        SnapshotFile.write(file, readMissions(rocketNames), readRockets(rocketNames));
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        assertThrows(StreamCorruptedException.class, () -> SnapshotFile.read(file),
+                "When tested read(...) with corrupted content, the method didn't throw StreamCorruptedException.");
+    }
+
+    @Test
+    public void testReadWithTruncatedFile() throws IOException {
+        Path file = Files.write(directory.resolve("dataset.snapshot"), new byte[] {0, 1, 2});
+
+        assertThrows(StreamCorruptedException.class, () -> SnapshotFile.read(file),
+                "When tested read(...) with a truncated file, the method didn't throw StreamCorruptedException.");
+    }
+
+    @Test
+    public void testWriteWithUnsharedRocketNames() throws IOException {
+        MissionColumns missions = readMissions(new StringDictionary());
+        RocketColumns rockets = readRockets(new StringDictionary());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SnapshotFile.write(directory.resolve("dataset.snapshot"), missions, rockets),
+                "When tested write(...) with unshared rocket names, " +
+                        "the method didn't throw IllegalArgumentException.");
+    }
+
+    private static MissionColumns readMissions(StringDictionary rocketNames) throws IOException {
+        MissionColumns missions = new MissionColumns(rocketNames);
+        try (CSVRecordReader records = new CSVRecordReader(new StringReader(MISSIONS))) {
+            new CSVColumnsLoader().loadMissions(records, missions);
+        }
+
+        return missions;
+    }
+
+    private static RocketColumns readRockets(StringDictionary rocketNames) throws IOException {
+        RocketColumns rockets = new RocketColumns(rocketNames);
+        try (CSVRecordReader records = new CSVRecordReader(new StringReader(ROCKETS))) {
+            new CSVColumnsLoader().loadRockets(records, rockets);
+        }
+
+        return rockets;
+    }
+}
@@ -0,0 +1,94 @@
+package bg.sofia.uni.fmi.mjt.space.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CSVTokenizerTest {
+    private static final String MISSION_LINE = "0,SpaceX,\"LC-39A, Kennedy Space Center, Florida, USA \"," +
+            "\"Fri Aug 07, 2020\",Falcon 9 Block 5 | Starlink V1 L9 & BlackSky,StatusActive,\"5,000.0 \",Success";
+
+    @Test
+    public void testNextFieldSplitsQuotedFields() {
+        CSVTokenizer tokenizer = new CSVTokenizer(',').reset(MISSION_LINE);
+        List<String> fields = new ArrayList<>();
+
+        while (tokenizer.hasNextField()) {
+            fields.add(tokenizer.nextField().field());
+        }
+
+        assertEquals(List.of("0", "SpaceX", "LC-39A, Kennedy Space Center, Florida, USA", "Fri Aug 07, 2020",
+                        "Falcon 9 Block 5 | Starlink V1 L9 & BlackSky", "StatusActive", "5,000.0", "Success"),
+                fields,
+                "When tested nextField() with quoted fields, the fields were not split correctly.");
+    }
+
+    @Test
+    public void testNextFieldWithTrailingEmptyField() {
+        CSVTokenizer tokenizer = new CSVTokenizer(',').reset("371,Starship Prototype,");
+
+        tokenizer.skipFields(2);
+
+        assertTrue(tokenizer.hasNextField() && tokenizer.nextField().isFieldBlank(),
+                "When tested nextField() with a trailing delimiter, the last field was not blank.");
+        assertFalse(tokenizer.hasNextField(),
+                "When tested hasNextField() after the last field, the method didn't return false.");
+        assertThrows(NoSuchElementException.class, tokenizer::nextField,
+                "When tested nextField() after the last field, the method didn't throw NoSuchElementException.");
+    }
+
+    @Test
+    public void testFieldAsDoubleIgnoresGroupingAndUnits() {
+        CSVTokenizer tokenizer = new CSVTokenizer(',').reset("\"1,160.25 \",70.0 m,29.75");
+
+        assertEquals(1160.25, tokenizer.nextField().fieldAsDouble(),
+                "When tested fieldAsDouble() with grouping separators, the method didn't return what was expected.");
+        assertEquals(70.0, tokenizer.nextField().fieldAsDouble(),
+                "When tested fieldAsDouble() with a unit suffix, the method didn't return what was expected.");
+        assertEquals(Double.parseDouble("29.75"), tokenizer.nextField().fieldAsDouble(),
+                "When tested fieldAsDouble(), the method didn't match Double.parseDouble.");
+    }
+
+    @Test
+    public void testFieldAsEpochDay() {
+        CSVTokenizer tokenizer = new CSVTokenizer(',').reset(MISSION_LINE).skipFields(3);
+
+        assertEquals(LocalDate.of(2020, 8, 7).toEpochDay(), tokenizer.nextField().fieldAsEpochDay(),
+                "When tested fieldAsEpochDay(), the method didn't return what was expected.");
+    }
+
+    @Test
+    public void testFieldAsEpochDayWithInvalidDate() {
+        CSVTokenizer tokenizer = new CSVTokenizer(',').reset("Fri Abc 07 2020");
+
+        assertThrows(DateTimeParseException.class, () -> tokenizer.nextField().fieldAsEpochDay(),
+                "When tested fieldAsEpochDay() with invalid date, the method didn't throw DateTimeParseException.");
+    }
+
+    @Test
+    public void testRecordReaderKeepsQuotedLineBreaks() throws IOException {
+        CSVRecordReader records = new CSVRecordReader(
+                new StringReader("a,\"b" + System.lineSeparator() + "c\"\r\n\r\nd,e"), 4
+        );
+        CSVTokenizer tokenizer = new CSVTokenizer(',');
+        List<String> fields = new ArrayList<>();
+
+        while (records.nextRecord(tokenizer)) {
+            fields.add(tokenizer.nextField().field() + "|" + tokenizer.nextField().field());
+        }
+
+        assertEquals(List.of("a|b" + System.lineSeparator() + "c", "d|e"), fields,
+                "When tested nextRecord() with quoted line breaks, the records were not split correctly.");
+    }
+}